@@ -9,9 +9,22 @@ repositories {
     mavenCentral()
 }
 
+sourceSets {
+    create("jmh") {
+        compileClasspath += sourceSets.main.get().output + sourceSets.main.get().runtimeClasspath
+        runtimeClasspath += sourceSets.main.get().output + sourceSets.main.get().runtimeClasspath
+    }
+}
+
+val jmhImplementation: Configuration by configurations.getting
+val jmhAnnotationProcessor: Configuration by configurations.getting
+
 dependencies {
     compileOnly("net.portswigger.burp.extensions:montoya-api:2025.4")
     implementation("com.google.code.gson:gson:2.10.1")
+
+    jmhImplementation("org.openjdk.jmh:jmh-core:1.37")
+    jmhAnnotationProcessor("org.openjdk.jmh:jmh-generator-annprocess:1.37")
 }
 
 tasks.withType<JavaCompile> {
@@ -20,13 +33,27 @@ tasks.withType<JavaCompile> {
     options.encoding = "UTF-8"
 }
 
+// JMH 벤치마크: ./gradlew jmh -PjmhArgs="QueryStringTokenizer -f 1"
+tasks.register<JavaExec>("jmh") {
+    group = "benchmark"
+    description = "Runs the JMH benchmarks in src/jmh"
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass.set("org.openjdk.jmh.Main")
+    args(providers.gradleProperty("jmhArgs").getOrElse("").split(" ").filter { it.isNotBlank() })
+}
+
+// 벤치마크 코드도 빌드 시 함께 컴파일
+tasks.named("check") {
+    dependsOn("jmhClasses")
+}
+
 tasks.jar {
     duplicatesStrategy = DuplicatesStrategy.EXCLUDE
     from(configurations.runtimeClasspath.get().filter { it.isDirectory })
     from(configurations.runtimeClasspath.get().filterNot { it.isDirectory }.map { zipTree(it) })
     manifest {
         attributes(
-            "Main-Class" to "com.parameter.collector.ParameterCollector",
+            "Main-Class" to "com.parameter.collector.ReplayHarness",
             "Extension-Name" to "Parameter Collector",
             "Extension-Description" to "Automatically collects and displays HTTP parameters from Burp Suite",
             "Extension-Author" to "Your Name"
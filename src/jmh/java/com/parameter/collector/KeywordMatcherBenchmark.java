@@ -0,0 +1,73 @@
+package com.parameter.collector;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+// 키워드마다 toLowerCase + contains vs Aho-Corasick 한 번 훑기
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class KeywordMatcherBenchmark {
+
+    @Param({"14", "300"})
+    public int keywordCount;
+
+    private final String[] names = {
+        "utm_campaign", "session_id", "X-Request-Id", "user.profile.addresses[].zipCode",
+        "[Cookie] _ga", "redirect_uri", "client_secret", "q"
+    };
+    private Set<String> keywords;
+    private KeywordMatcher matcher;
+
+    @Setup
+    public void setup() {
+        keywords = new HashSet<>(Set.of(
+            "password", "pass", "passwd", "pwd", "secret", "token",
+            "key", "credential", "auth", "api_key", "apikey",
+            "access_token", "refresh_token", "private_key"
+        ));
+        for (int i = keywords.size(); i < keywordCount; i++) {
+            keywords.add("custom_keyword_" + i);
+        }
+        matcher = KeywordMatcher.compile(keywords);
+    }
+
+    @Benchmark
+    public void loopContains(Blackhole bh) {
+        for (String name : names) {
+            String lowerName = name.toLowerCase();
+            boolean found = false;
+            for (String keyword : keywords) {
+                if (lowerName.contains(keyword.toLowerCase())) {
+                    found = true;
+                    break;
+                }
+            }
+            bh.consume(found);
+        }
+    }
+
+    @Benchmark
+    public void ahoCorasick(Blackhole bh) {
+        for (String name : names) {
+            bh.consume(matcher.matches(name));
+        }
+    }
+}
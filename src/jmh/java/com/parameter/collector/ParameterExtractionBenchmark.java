@@ -0,0 +1,181 @@
+package com.parameter.collector;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// HttpHandler가 쓰는 추출 경로를 Burp 없이 합성 요청으로 측정 (찾은 값은 저장하지 않고 Blackhole로)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParameterExtractionBenchmark {
+    private static final String BOUNDARY = "----WebKitFormBoundary7MA4YWxkTrZu0gW";
+
+    private ParameterExtractor extractor;
+    private String url;
+    private ByteSource form;
+    private final String[] names = {
+        "utm_campaign", "session_id", "X-Request-Id", "user.profile.addresses[].zipCode",
+        "[Cookie] _ga", "redirect_uri", "client_secret", "q"
+    };
+
+    @Setup
+    public void setup() {
+        extractor = ParameterExtractorFixture.create();
+        url = "https://shop.example.com/search?q=running+shoes&category=sports&page=2&sort=price_asc&size=42"
+            + "&utm_source=newsletter&utm_medium=email&redirect=%2Faccount%2Forders&lang=ko";
+        form = bytes("username=alice&remember=on&redirect=%2Faccount%2Forders&lang=ko&csrf=8f14e45fceea167a5a36dedd4bea2543"
+            + "&comment=%EC%95%88%EB%85%95%ED%95%98%EC%84%B8%EC%9A%94&tags=a%2Cb%2Cc&empty=&flag");
+    }
+
+    @State(Scope.Benchmark)
+    public static class JsonCorpus {
+        // nested: 깊이 12 객체, arrays: 원소 500개 배열 두 개
+        @Param({"nested", "arrays"})
+        public String shape;
+
+        ByteSource body;
+
+        @Setup
+        public void setup() {
+            body = bytes(shape.equals("nested") ? nestedJson(12) : arrayJson(500));
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class MultipartCorpus {
+        // 파일 파트 크기 (KB)
+        @Param({"64", "4096"})
+        public int uploadKb;
+
+        ByteSource body;
+        final String contentType = "multipart/form-data; boundary=" + BOUNDARY;
+
+        @Setup
+        public void setup() {
+            body = ByteSource.of(multipartBody(uploadKb * 1024));
+        }
+    }
+
+    @Benchmark
+    public void extractParametersFromUrl(Blackhole bh) {
+        extractor.extractParametersFromUrl(url, (name, value) -> {
+            bh.consume(name);
+            bh.consume(value);
+        });
+    }
+
+    @Benchmark
+    public void extractFormUrlEncoded(Blackhole bh) {
+        extractor.extractFormUrlEncoded(form, (name, value) -> {
+            bh.consume(name);
+            bh.consume(value);
+        });
+    }
+
+    @Benchmark
+    public void extractJsonParameters(JsonCorpus corpus, Blackhole bh) {
+        extractor.extractJsonParameters(corpus.body, (name, value) -> {
+            bh.consume(name);
+            bh.consume(value);
+        });
+    }
+
+    @Benchmark
+    public void extractMultipartParameters(MultipartCorpus corpus, Blackhole bh) {
+        extractor.extractMultipartParameters(corpus.body, corpus.contentType, (name, value) -> {
+            bh.consume(name);
+            bh.consume(value);
+        });
+    }
+
+    @Benchmark
+    public void isSensitiveParameter(Blackhole bh) {
+        for (String name : names) {
+            bh.consume(extractor.isSensitiveParameter(name));
+        }
+    }
+
+    private static ByteSource bytes(String text) {
+        return ByteSource.of(text.getBytes(StandardCharsets.ISO_8859_1));
+    }
+
+    private static String nestedJson(int depth) {
+        StringBuilder out = new StringBuilder();
+        for (int i = 0; i < depth; i++) {
+            out.append("{\"id\":").append(i).append(",\"name\":\"level").append(i)
+                .append("\",\"enabled\":true,\"tags\":[\"a\",\"b\"],\"child\":");
+        }
+        out.append("null");
+        for (int i = 0; i < depth; i++) {
+            out.append('}');
+        }
+        return out.toString();
+    }
+
+    private static String arrayJson(int count) {
+        StringBuilder out = new StringBuilder("{\"items\":[");
+        for (int i = 0; i < count; i++) {
+            if (i > 0) out.append(',');
+            out.append("{\"id\":").append(i).append(",\"sku\":\"SKU-").append(100000 + i)
+                .append("\",\"price\":").append(i * 13 % 997).append(".5,\"inStock\":").append(i % 3 != 0)
+                .append(",\"owner\":{\"id\":").append(i % 17).append("}}");
+        }
+        out.append("],\"scores\":[");
+        for (int i = 0; i < count; i++) {
+            if (i > 0) out.append(',');
+            out.append(i * 7 % 101);
+        }
+        return out.append("]}").toString();
+    }
+
+    private static byte[] multipartBody(int fileBytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(fileBytes + 1024);
+        writePart(out, "Content-Disposition: form-data; name=\"title\"\r\n", "분기 보고서".getBytes(StandardCharsets.UTF_8));
+        writePart(out, "Content-Disposition: form-data; name=\"visibility\"\r\n", "private".getBytes(StandardCharsets.ISO_8859_1));
+        byte[] file = new byte[fileBytes];
+        new Random(42).nextBytes(file);
+        writePart(out, "Content-Disposition: form-data; name=\"file\"; filename=\"report.bin\"\r\n"
+            + "Content-Type: application/octet-stream\r\n", file);
+        out.writeBytes(("--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.ISO_8859_1));
+        return out.toByteArray();
+    }
+
+    private static void writePart(ByteArrayOutputStream out, String headers, byte[] content) {
+        out.writeBytes(("--" + BOUNDARY + "\r\n" + headers + "\r\n").getBytes(StandardCharsets.ISO_8859_1));
+        out.writeBytes(content);
+        out.writeBytes("\r\n".getBytes(StandardCharsets.ISO_8859_1));
+    }
+
+    static final class ParameterExtractorFixture {
+        private ParameterExtractorFixture() {
+        }
+
+        static ParameterExtractor create() {
+            ParameterStore store = new HeapParameterStore();
+            return create(new ParameterStatistics(store));
+        }
+
+        static ParameterExtractor create(ParameterStatistics statistics) {
+            return new ParameterExtractor(statistics, new ParameterContexts(), new IngestionMetrics(),
+                ExtractionSettings.defaults(), () -> { }, message -> { });
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.parameter.collector;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+// 여러 추출 워커가 동시에 addParameterValue를 부를 때의 처리량 (통계 + 중복 체크 + 저장소 추가)
+// 값 풀을 돌려 쓰므로 첫 바퀴 이후는 대부분 중복 값 경로
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParameterIngestBenchmark {
+    private static final int NAME_COUNT = 64;
+    private static final int VALUE_POOL = 1 << 16;
+
+    @Param({"heap", "mapped"})
+    public String backend;
+
+    private ParameterStore store;
+    private ParameterExtractor extractor;
+    private String[] names;
+    private String[] values;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        // mapped는 임시 폴더 아래 새 하위 폴더에 (닫을 때 그 폴더만 지움)
+        store = ParameterStore.create(ParameterStore.Backend.valueOf(backend.toUpperCase(Locale.ROOT)), "");
+        ParameterStatistics statistics = new ParameterStatistics(store);
+        statistics.configure(0, 1);
+        extractor = ParameterExtractionBenchmark.ParameterExtractorFixture.create(statistics);
+        names = new String[NAME_COUNT];
+        for (int i = 0; i < NAME_COUNT; i++) {
+            names[i] = "param_" + i;
+        }
+        values = new String[VALUE_POOL];
+        for (int i = 0; i < VALUE_POOL; i++) {
+            values[i] = Integer.toHexString(i * 0x9E3779B1);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        store.close();
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+
+        @Setup
+        public void setup() {
+            next = (int) (Thread.currentThread().threadId() * 7919);
+        }
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void addParameterValue(Cursor cursor) {
+        int i = cursor.next++;
+        extractor.addParameterValue(names[i & (NAME_COUNT - 1)], values[(i >>> 6) & (VALUE_POOL - 1)], 0);
+    }
+}
@@ -0,0 +1,96 @@
+package com.parameter.collector;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// 기존 정규식 추출 vs 단일 패스 토크나이저
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class QueryStringTokenizerBenchmark {
+
+    @Param({"search", "tracking", "encoded"})
+    public String corpus;
+
+    private String url;
+    private String body;
+
+    @Setup
+    public void setup() {
+        switch (corpus) {
+            case "search":
+                url = "https://shop.example.com/search?q=running+shoes&category=sports&page=2&sort=price_asc&size=42";
+                body = "username=alice&remember=on&redirect=%2Faccount%2Forders&lang=ko";
+                break;
+            case "tracking":
+                url = "https://www.example.com/landing?utm_source=newsletter&utm_medium=email"
+                    + "&utm_campaign=spring_sale_2024&utm_content=hero_banner&gclid=Cj0KCQjw8O-VBhCpARIsACMvVLOx"
+                    + "&fbclid=IwAR2F4-Ow0kq4sVxZr3sFQ&_ga=2.123456789.987654321.1650000000-1234567890.1650000000"
+                    + "&ref=homepage&session_id=8f14e45fceea167a5a36dedd4bea2543&ts=1712345678901";
+                body = "event=page_view&page_location=https%3A%2F%2Fwww.example.com%2Flanding&page_title=Spring+Sale"
+                    + "&screen_resolution=1920x1080&language=ko-kr&client_id=1234567890.1650000000"
+                    + "&engagement_time_msec=1234&debug_mode=false";
+                break;
+            default:
+                url = "https://api.example.com/v2/items?filter=%7B%22status%22%3A%22active%22%2C%22owner%22%3A%22me%22%7D"
+                    + "&name=%ED%85%8C%EC%8A%A4%ED%8A%B8&redirect_uri=https%3A%2F%2Fapp.example.com%2Fcallback%3Fstate%3Dxyz"
+                    + "&scope=openid+profile+email&nonce=n-0S6_WzA2Mj";
+                body = "comment=%EC%95%88%EB%85%95%ED%95%98%EC%84%B8%EC%9A%94+%EB%B0%98%EA%B0%91%EC%8A%B5%EB%8B%88%EB%8B%A4"
+                    + "&tags=a%2Cb%2Cc&html=%3Cb%3Ehello%3C%2Fb%3E&empty=&flag";
+                break;
+        }
+    }
+
+    @Benchmark
+    public void regexUrl(Blackhole bh) {
+        Pattern pattern = Pattern.compile("[?&]([^=&]+)=([^&]*)");
+        Matcher matcher = pattern.matcher(url);
+        while (matcher.find()) {
+            bh.consume(matcher.group(1));
+            bh.consume(matcher.group(2));
+        }
+    }
+
+    @Benchmark
+    public void tokenizerUrl(Blackhole bh) {
+        QueryStringTokenizer.parseUrl(url, (name, value) -> {
+            bh.consume(name);
+            bh.consume(value);
+        });
+    }
+
+    @Benchmark
+    public void regexForm(Blackhole bh) {
+        Pattern pattern = Pattern.compile("([^=&]+)=([^&]*)");
+        Matcher matcher = pattern.matcher(body);
+        while (matcher.find()) {
+            bh.consume(matcher.group(1));
+            bh.consume(matcher.group(2));
+        }
+    }
+
+    @Benchmark
+    public void tokenizerForm(Blackhole bh) {
+        QueryStringTokenizer.parse(body, (name, value) -> {
+            bh.consume(name);
+            bh.consume(value);
+        });
+    }
+}
@@ -0,0 +1,339 @@
+package com.parameter.collector;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+// 자동 내보내기 전용 백그라운드 작성기 (스레드 1개)
+// - 저장소 엔트리 ID 기준으로 마지막 기록 이후 추가된 값(delta)만 파일 끝에 덧붙인다
+// - 처음 기록할 때(또는 파일이 외부에서 바뀌었을 때)만 기존 파일과 병합해 임시 파일에 쓰고 원자적으로 교체
+// - 파일 형식은 기존과 같은 [{"name": ..., "values": [...]}, ...] 배열 (객체 하나당 한 줄)
+// - 필터 키워드는 수동 내보내기와 같이 적용: 이름이 포함하는 파라미터만, 값도 포함하는 것만 (값이 없으면 빈 배열)
+// - 기존 파일을 읽을 수 없으면(덧붙이다 끊긴 파일 등) 옆으로 옮겨 두고 저장소 기준으로 새로 쓴다
+class AutoExporter {
+    private static final String ARRAY_END = "\n]\n";
+
+    private final ParameterStore store;
+    private final Consumer<String> log;
+    private final Consumer<String> errorLog;
+    private final Object signal = new Object();
+    private final Thread thread;
+
+    private volatile boolean enabled;
+    private volatile String path = "";
+    private volatile String filterKeyword = "";
+    private volatile long flushIntervalMs = 5000;
+    private volatile int batchSize = 1000;
+    private volatile boolean running = true;
+    private volatile boolean wakeRequested;
+    private volatile boolean rebaseRequested = true;
+
+    // 작성 스레드 전용 상태
+    private volatile int exportedLimit;
+    private long closingOffset;
+    private boolean fileHasEntries;
+    private long expectedFileSize = -1;
+    // 파일에 객체가 이미 있는 이름 (값이 하나도 맞지 않는 이름도 빈 객체로 한 번은 쓰기 위해)
+    private final Set<String> writtenNames = new HashSet<>();
+
+    AutoExporter(ParameterStore store, Consumer<String> log, Consumer<String> errorLog) {
+        this.store = store;
+        this.log = log;
+        this.errorLog = errorLog;
+        this.thread = new Thread(this::run, "ParameterCollector-auto-export");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    // 설정 적용. 경로나 필터 키워드가 바뀌거나 새로 켜지면 다음 기록은 전체 병합으로 시작
+    void configure(boolean enabled, String path, String filterKeyword, long flushIntervalMs, int batchSize) {
+        boolean rebase = enabled
+            && (!this.enabled || !path.equals(this.path) || !filterKeyword.equals(this.filterKeyword));
+        this.flushIntervalMs = Math.max(100, flushIntervalMs);
+        this.batchSize = Math.max(1, batchSize);
+        this.path = path;
+        this.filterKeyword = filterKeyword;
+        this.enabled = enabled;
+        if (rebase) {
+            rebaseRequested = true;
+            wake();
+        }
+    }
+
+    boolean isEnabled() {
+        return enabled;
+    }
+
+    long getFlushIntervalMs() {
+        return flushIntervalMs;
+    }
+
+    int getBatchSize() {
+        return batchSize;
+    }
+
+    // 새 값이 저장될 때마다 호출. 대기 중인 값이 batchSize 이상이면 바로 기록하도록 깨운다
+    void onValueAdded() {
+        if (enabled && !wakeRequested && store.entryLimit() - exportedLimit >= batchSize) {
+            wake();
+        }
+    }
+
+    void shutdown() {
+        running = false;
+        wake();
+        try {
+            thread.join(flushIntervalMs + 1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void wake() {
+        synchronized (signal) {
+            wakeRequested = true;
+            signal.notifyAll();
+        }
+    }
+
+    private void run() {
+        while (running) {
+            synchronized (signal) {
+                if (!wakeRequested) {
+                    try {
+                        signal.wait(flushIntervalMs);
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+                wakeRequested = false;
+            }
+            flush();
+        }
+        // 종료 전 남은 값 기록
+        flush();
+    }
+
+    private void flush() {
+        String target = path;
+        if (!enabled || target.isEmpty()) {
+            return;
+        }
+        try {
+            if (rebaseRequested || !matchesExpectedFile(target)) {
+                rebase(target);
+            } else if (store.entryLimit() > exportedLimit) {
+                appendDelta(target);
+            }
+        } catch (IOException | RuntimeException e) {
+            // 부분 기록 가능성이 있으므로 다음 기록은 전체 병합으로
+            rebaseRequested = true;
+            errorLog.accept("[Parameter Collector] 자동 내보내기 실패: " + e.getMessage());
+        }
+    }
+
+    private boolean matchesExpectedFile(String target) {
+        File file = new File(target);
+        return file.exists() && file.length() == expectedFileSize;
+    }
+
+    // 기존 파일 + 저장소 전체를 임시 파일에 쓰고 원자적으로 교체
+    private void rebase(String target) throws IOException {
+        Path targetPath = Path.of(target).toAbsolutePath();
+        Map<String, Set<String>> merged;
+        try {
+            merged = readExisting(targetPath);
+        } catch (IOException | RuntimeException e) {
+            // 깨진 파일에 계속 병합을 시도하면 매번 실패하므로 옮겨 두고 저장소 기준으로 새로 쓴다
+            Path aside = targetPath.resolveSibling(targetPath.getFileName() + ".broken-" + System.currentTimeMillis());
+            Files.move(targetPath, aside, StandardCopyOption.REPLACE_EXISTING);
+            errorLog.accept("[Parameter Collector] 자동 내보내기 파일을 읽을 수 없어 " + aside
+                + "(으)로 옮기고 새로 씁니다: " + e.getMessage());
+            merged = new LinkedHashMap<>();
+        }
+
+        String keyword = filterKeyword;
+        int limit = store.entryLimit();
+        for (int id = 0; id < limit; id++) {
+            String value = store.valueAt(id);
+            if (value == null) {
+                continue;
+            }
+            String name = store.nameAt(id);
+            if (!keyword.isEmpty() && !name.contains(keyword)) {
+                continue;
+            }
+            Set<String> values = merged.computeIfAbsent(name, k -> new LinkedHashSet<>());
+            if (keyword.isEmpty() || value.contains(keyword)) {
+                values.add(value);
+            }
+        }
+
+        Path temp = Files.createTempFile(targetPath.getParent(), targetPath.getFileName().toString(), ".tmp");
+        long size;
+        boolean hasEntries = false;
+        try {
+            try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                StringBuilder out = new StringBuilder("[");
+                for (Map.Entry<String, Set<String>> entry : merged.entrySet()) {
+                    out.append(hasEntries ? ",\n" : "\n");
+                    appendObject(out, entry.getKey(), entry.getValue());
+                    hasEntries = true;
+                    if (out.length() > 64 * 1024) {
+                        writer.write(out.toString());
+                        out.setLength(0);
+                    }
+                }
+                out.append(ARRAY_END);
+                writer.write(out.toString());
+            }
+            size = Files.size(temp);
+            try {
+                Files.move(temp, targetPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                // 원자적 교체를 지원하지 않는 파일 시스템에서는 일반 교체로
+                Files.move(temp, targetPath, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+
+        writtenNames.clear();
+        writtenNames.addAll(merged.keySet());
+        fileHasEntries = hasEntries;
+        closingOffset = size - ARRAY_END.length();
+        expectedFileSize = size;
+        exportedLimit = limit;
+        rebaseRequested = false;
+        log.accept("[Parameter Collector] 자동 내보내기 완료: " + target);
+    }
+
+    // 마지막 기록 이후 추가된 엔트리만 닫는 괄호 위치에 덧붙임
+    private void appendDelta(String target) throws IOException {
+        String keyword = filterKeyword;
+        int limit = store.entryLimit();
+        Map<String, List<String>> delta = new LinkedHashMap<>();
+        for (int id = exportedLimit; id < limit; id++) {
+            String value = store.valueAt(id);
+            if (value == null) {
+                continue;
+            }
+            String name = store.nameAt(id);
+            if (!keyword.isEmpty() && !name.contains(keyword)) {
+                continue;
+            }
+            if (keyword.isEmpty() || value.contains(keyword)) {
+                delta.computeIfAbsent(name, k -> new ArrayList<>()).add(value);
+            } else if (!writtenNames.contains(name)) {
+                // 값은 맞지 않아도 이름은 빈 객체로 남긴다 (수동 내보내기와 같음)
+                delta.computeIfAbsent(name, k -> new ArrayList<>());
+            }
+        }
+        if (delta.isEmpty()) {
+            exportedLimit = limit;
+            return;
+        }
+
+        StringBuilder out = new StringBuilder();
+        boolean hasEntries = fileHasEntries;
+        for (Map.Entry<String, List<String>> entry : delta.entrySet()) {
+            out.append(hasEntries ? ",\n" : "\n");
+            appendObject(out, entry.getKey(), entry.getValue());
+            hasEntries = true;
+        }
+        out.append(ARRAY_END);
+        byte[] bytes = out.toString().getBytes(StandardCharsets.UTF_8);
+
+        try (FileChannel channel = FileChannel.open(Path.of(target), StandardOpenOption.WRITE)) {
+            channel.position(closingOffset);
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.truncate(closingOffset + bytes.length);
+            channel.force(false);
+        }
+
+        writtenNames.addAll(delta.keySet());
+        fileHasEntries = true;
+        closingOffset += bytes.length - ARRAY_END.length();
+        expectedFileSize = closingOffset + ARRAY_END.length();
+        exportedLimit = limit;
+    }
+
+    private static void appendObject(StringBuilder out, String name, Iterable<String> values) throws IOException {
+        StringWriter buffer = new StringWriter();
+        JsonWriter writer = new JsonWriter(buffer);
+        writer.beginObject();
+        writer.name("name").value(name);
+        writer.name("values").beginArray();
+        for (String value : values) {
+            writer.value(value);
+        }
+        writer.endArray();
+        writer.endObject();
+        writer.flush();
+        out.append(buffer);
+    }
+
+    // 기존 내보내기 파일을 스트리밍으로 읽어 이름별 값 집합으로 병합 (해시 기반 중복 제거)
+    private static Map<String, Set<String>> readExisting(Path file) throws IOException {
+        Map<String, Set<String>> merged = new LinkedHashMap<>();
+        if (!Files.exists(file) || Files.size(file) == 0) {
+            return merged;
+        }
+        try (Reader in = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            JsonReader reader = new JsonReader(in);
+            if (reader.peek() != JsonToken.BEGIN_ARRAY) {
+                return merged;
+            }
+            reader.beginArray();
+            while (reader.hasNext()) {
+                String name = null;
+                List<String> values = new ArrayList<>();
+                reader.beginObject();
+                while (reader.hasNext()) {
+                    String key = reader.nextName();
+                    if (key.equals("name")) {
+                        name = reader.nextString();
+                    } else if (key.equals("values") && reader.peek() == JsonToken.BEGIN_ARRAY) {
+                        reader.beginArray();
+                        while (reader.hasNext()) {
+                            values.add(reader.nextString());
+                        }
+                        reader.endArray();
+                    } else {
+                        reader.skipValue();
+                    }
+                }
+                reader.endObject();
+                if (name != null) {
+                    merged.computeIfAbsent(name, k -> new LinkedHashSet<>()).addAll(values);
+                }
+            }
+        }
+        return merged;
+    }
+}
@@ -0,0 +1,158 @@
+package com.parameter.collector;
+
+import javax.swing.SwingUtilities;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+// 확장의 블로킹 작업(파일 입출력, 가져오기/내보내기, 저널 재생) 실행기
+// - 작업마다 가상 스레드 하나 (OS 스레드를 늘리지 않음). 작업 안에서 만든 하위 작업도 가상 스레드로
+// - 취소는 인터럽트로 전달: 작업은 인터럽트/isCancelled()를 보고 멈추고, 하위 작업 실행기는 닫을 때 같이 끝난다
+// - 진행 상황은 마지막 값만 남겨 EDT로 한 번씩 전달 (작업이 아무리 자주 알려도 EDT 큐가 쌓이지 않음)
+// - 결과(성공/실패/취소)는 항상 EDT에서 한 번 전달
+final class BackgroundTasks {
+    private static final long SHUTDOWN_WAIT_MS = 5000;
+
+    @FunctionalInterface
+    interface Job<T> {
+        T run(Task<T> task) throws Exception;
+    }
+
+    @FunctionalInterface
+    interface ProgressListener {
+        // EDT. total이 0이면 전체를 모름
+        void update(long done, long total, String text);
+    }
+
+    // error와 cancelled는 둘 다 비어 있으면 성공
+    record Outcome<T>(T value, Throwable error, boolean cancelled) {
+        boolean succeeded() {
+            return error == null && !cancelled;
+        }
+
+        // 안내창용. 메시지가 없는 오류(StackOverflowError 등)는 오류 이름으로
+        String errorMessage() {
+            return error.getMessage() != null ? error.getMessage() : error.toString();
+        }
+    }
+
+    private final ExecutorService executor;
+    private final Consumer<String> errorLog;
+    private final Set<Task<?>> running = ConcurrentHashMap.newKeySet();
+
+    BackgroundTasks(Consumer<String> errorLog) {
+        this.executor = Executors.newThreadPerTaskExecutor(virtualThreads("ParameterCollector-task"));
+        this.errorLog = errorLog;
+    }
+
+    // 이름 뒤에 번호를 붙이는 가상 스레드 팩토리 (하위 작업 실행기, 오래 사는 작업용)
+    static ThreadFactory virtualThreads(String name) {
+        return Thread.ofVirtual().name(name + "-", 0).factory();
+    }
+
+    // onProgress는 null 가능. onDone은 EDT에서 한 번
+    <T> Task<T> submit(String name, Job<T> job, ProgressListener onProgress, Consumer<Outcome<T>> onDone) {
+        Task<T> task = new Task<>(name, onProgress);
+        running.add(task);
+        task.future = executor.submit(() -> task.execute(job, onDone));
+        return task;
+    }
+
+    // 실행 중인 작업을 모두 취소하고 잠시 기다림 (확장 언로드 시)
+    void shutdown() {
+        for (Task<?> task : running) {
+            task.cancel();
+        }
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(SHUTDOWN_WAIT_MS, TimeUnit.MILLISECONDS)) {
+                errorLog.accept("[Parameter Collector] 백그라운드 작업이 제시간에 끝나지 않았습니다: " + running);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    final class Task<T> {
+        private final String name;
+        private final ProgressListener onProgress;
+        private final AtomicBoolean progressScheduled = new AtomicBoolean();
+        private volatile boolean cancelled;
+        private volatile Future<?> future;
+        private volatile long done;
+        private volatile long total;
+        private volatile String text = "";
+
+        private Task(String name, ProgressListener onProgress) {
+            this.name = name;
+            this.onProgress = onProgress;
+        }
+
+        // 아무 스레드에서나. 이미 끝난 작업이면 아무 일도 하지 않음
+        void cancel() {
+            cancelled = true;
+            Future<?> current = future;
+            if (current != null) {
+                current.cancel(true);
+            }
+        }
+
+        boolean isCancelled() {
+            return cancelled;
+        }
+
+        // 작업 스레드에서 중간중간 호출
+        void checkCancelled() {
+            if (cancelled || Thread.currentThread().isInterrupted()) {
+                throw new CancellationException(name);
+            }
+        }
+
+        void progress(long done, long total, String text) {
+            this.done = done;
+            this.total = total;
+            this.text = text;
+            if (onProgress != null && progressScheduled.compareAndSet(false, true)) {
+                SwingUtilities.invokeLater(() -> {
+                    progressScheduled.set(false);
+                    if (!cancelled) {
+                        onProgress.update(this.done, this.total, this.text);
+                    }
+                });
+            }
+        }
+
+        // Error(OutOfMemoryError 등)도 실패로 전달해 화면이 진행 중 상태로 남지 않게 한다
+        private void execute(Job<T> job, Consumer<Outcome<T>> onDone) {
+            Outcome<T> outcome;
+            try {
+                T value = job.run(this);
+                outcome = cancelled ? new Outcome<>(null, null, true) : new Outcome<>(value, null, false);
+            } catch (InterruptedException | CancellationException e) {
+                outcome = new Outcome<>(null, null, true);
+            } catch (Throwable e) {
+                // 취소 인터럽트로 입출력이 끊긴 경우도 취소로 본다
+                outcome = cancelled ? new Outcome<>(null, null, true) : new Outcome<>(null, e, false);
+            } finally {
+                running.remove(this);
+            }
+            if (outcome.error() != null) {
+                errorLog.accept("[Parameter Collector] " + name + " 실패: " + outcome.error());
+            }
+            Outcome<T> result = outcome;
+            SwingUtilities.invokeLater(() -> onDone.accept(result));
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+}
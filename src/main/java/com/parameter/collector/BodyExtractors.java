@@ -0,0 +1,56 @@
+package com.parameter.collector;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+// 요청 본문 추출기 등록표 (Content-Type -> 추출기)
+// - 조회는 파싱한 미디어 타입의 essence로 해시 조회 한 번, 없으면 구조화 접미사(+json, +xml)로 한 번
+// - Content-Type이 없으면 기본 추출기 (기존 동작대로 form-urlencoded)
+// - 등록되지 않은 타입은 null -> 본문을 읽지 않고 건너뜀
+// 여러 추출 워커가 잠금 없이 읽도록 등록할 때마다 맵을 복사해 통째로 교체
+final class BodyExtractors {
+
+    @FunctionalInterface
+    interface BodyExtractor {
+        void extract(ByteSource body, MediaType mediaType, ParameterSink sink) throws Exception;
+    }
+
+    // 추출기와 찾은 값의 출처, 계측 단계
+    record Registration(BodyExtractor extractor, ParameterContexts.Source source, IngestionMetrics.Stage stage) {
+    }
+
+    private volatile Map<String, Registration> byEssence = Map.of();
+    private volatile Map<String, Registration> bySuffix = Map.of();
+    private volatile Registration fallback;
+
+    // essence: "application/xml" 같은 type/subtype (대소문자 무시)
+    synchronized void register(String essence, Registration registration) {
+        Map<String, Registration> next = new HashMap<>(byEssence);
+        next.put(essence.trim().toLowerCase(Locale.ROOT), registration);
+        byEssence = next;
+    }
+
+    // suffix: "json" -> application/vnd.api+json 등 등록되지 않은 "+json" 타입 전부
+    synchronized void registerSuffix(String suffix, Registration registration) {
+        Map<String, Registration> next = new HashMap<>(bySuffix);
+        next.put(suffix.trim().toLowerCase(Locale.ROOT), registration);
+        bySuffix = next;
+    }
+
+    // Content-Type 헤더가 없는 본문용
+    void registerFallback(Registration registration) {
+        fallback = registration;
+    }
+
+    Registration lookup(MediaType mediaType) {
+        if (mediaType.isEmpty()) {
+            return fallback;
+        }
+        Registration registration = byEssence.get(mediaType.essence());
+        if (registration == null && !mediaType.suffix().isEmpty()) {
+            registration = bySuffix.get(mediaType.suffix());
+        }
+        return registration;
+    }
+}
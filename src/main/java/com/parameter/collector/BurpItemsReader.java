@@ -0,0 +1,148 @@
+package com.parameter.collector;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+// Burp "Save items" XML 리더 (<items><item>...</item></items>)
+// - StAX로 item 하나씩 읽고, base64로 저장된 원본 요청/응답에서 헤더와 본문을 나눈다
+// - DTD와 외부 엔티티는 처리하지 않는다
+class BurpItemsReader implements TrafficReader {
+    private final boolean includeResponses;
+    private final int responseMaxBytes;
+
+    BurpItemsReader(boolean includeResponses, int responseMaxBytes) {
+        this.includeResponses = includeResponses;
+        this.responseMaxBytes = responseMaxBytes;
+    }
+
+    // 원본 HTTP 메시지를 헤더와 본문으로 나눈 것
+    private record RawMessage(String startLine, Headers headers, ByteSource body) {
+    }
+
+    @Override
+    public void read(InputStream in, Sink sink) throws IOException {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        try {
+            XMLStreamReader reader = factory.createXMLStreamReader(in);
+            try {
+                String url = null;
+                String host = null;
+                String method = null;
+                byte[] request = null;
+                byte[] response = null;
+                while (reader.hasNext()) {
+                    int event = reader.next();
+                    if (event == XMLStreamReader.END_ELEMENT && reader.getLocalName().equals("item")) {
+                        if (url != null && request != null) {
+                            readItem(url, host, method, request, response, sink);
+                        }
+                        url = host = method = null;
+                        request = response = null;
+                        continue;
+                    }
+                    if (event != XMLStreamReader.START_ELEMENT) {
+                        continue;
+                    }
+                    switch (reader.getLocalName()) {
+                        case "url" -> url = reader.getElementText().trim();
+                        case "host" -> host = reader.getElementText().trim();
+                        case "method" -> method = reader.getElementText().trim();
+                        case "request" -> request = bytes(reader);
+                        case "response" -> response = includeResponses ? bytes(reader) : skip(reader);
+                        default -> {
+                        }
+                    }
+                }
+            } finally {
+                reader.close();
+            }
+        } catch (XMLStreamException e) {
+            throw new IOException("Burp 항목 XML을 읽을 수 없습니다: " + e.getMessage(), e);
+        }
+    }
+
+    private void readItem(String url, String host, String method, byte[] request, byte[] response, Sink sink) {
+        RawMessage raw = split(request);
+        if (method == null || method.isEmpty()) {
+            int space = raw.startLine().indexOf(' ');
+            method = space < 0 ? raw.startLine() : raw.startLine().substring(0, space);
+        }
+        if (host == null || host.isEmpty()) {
+            host = TrafficReader.hostOf(url);
+        }
+        String path = TrafficReader.pathOf(url);
+        String contentType = raw.headers().get("Content-Type");
+        sink.request(RequestSnapshot.capture(host, method, path, url, contentType == null ? "" : contentType,
+            raw.body(), raw.headers()::get, true, RequestSnapshot.DEFAULT_COLLECTABLE_HEADERS));
+
+        if (response == null) {
+            return;
+        }
+        RawMessage rawResponse = split(response);
+        ResponseSnapshot snapshot = ResponseSnapshot.capture(host, method, path,
+            rawResponse.headers().get("Content-Type"), rawResponse.body(),
+            List.copyOf(rawResponse.headers().setCookies()), responseMaxBytes);
+        if (snapshot != null) {
+            sink.response(snapshot);
+        }
+    }
+
+    // 빈 줄(CRLF CRLF 또는 LF LF) 앞은 헤더, 뒤는 본문. 헤더는 바이트 = 문자로 읽는다
+    private static RawMessage split(byte[] message) {
+        int bodyStart = message.length;
+        int headerEnd = message.length;
+        for (int i = 0; i < message.length; i++) {
+            if (message[i] != '\n') {
+                continue;
+            }
+            if (i + 1 < message.length && message[i + 1] == '\n') {
+                headerEnd = i;
+                bodyStart = i + 2;
+                break;
+            }
+            if (i + 2 < message.length && message[i + 1] == '\r' && message[i + 2] == '\n') {
+                headerEnd = i;
+                bodyStart = i + 3;
+                break;
+            }
+        }
+        String head = new String(message, 0, headerEnd, StandardCharsets.ISO_8859_1);
+        String[] lines = head.split("\r?\n");
+        Headers headers = new Headers();
+        for (int i = 1; i < lines.length; i++) {
+            int colon = lines[i].indexOf(':');
+            if (colon > 0) {
+                headers.add(lines[i].substring(0, colon).trim(), lines[i].substring(colon + 1).trim());
+            }
+        }
+        return new RawMessage(lines.length == 0 ? "" : lines[0],
+            headers, ByteSource.of(message, bodyStart, message.length - bodyStart));
+    }
+
+    private static byte[] bytes(XMLStreamReader reader) throws XMLStreamException {
+        boolean base64 = "true".equalsIgnoreCase(reader.getAttributeValue(null, "base64"));
+        String text = reader.getElementText();
+        if (!base64) {
+            return text.getBytes(StandardCharsets.ISO_8859_1);
+        }
+        try {
+            return Base64.getMimeDecoder().decode(text);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static byte[] skip(XMLStreamReader reader) throws XMLStreamException {
+        reader.getElementText();
+        return null;
+    }
+}
@@ -0,0 +1,100 @@
+package com.parameter.collector;
+
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+
+// 요청/응답 본문을 복사하지 않고 읽기 위한 바이트 뷰 (Burp ByteArray 또는 byte[])
+interface ByteSource {
+    int length();
+
+    byte byteAt(int index);
+
+    static ByteSource of(byte[] bytes) {
+        return new ByteSource() {
+            @Override
+            public int length() {
+                return bytes.length;
+            }
+
+            @Override
+            public byte byteAt(int index) {
+                return bytes[index];
+            }
+        };
+    }
+
+    // bytes[offset, offset + length) 구간 (복사하지 않음)
+    static ByteSource of(byte[] bytes, int offset, int length) {
+        return new ByteSource() {
+            @Override
+            public int length() {
+                return length;
+            }
+
+            @Override
+            public byte byteAt(int index) {
+                return bytes[offset + index];
+            }
+        };
+    }
+
+    // [start, end) 범위를 bodyToString()과 같은 방식(바이트 = 문자)으로 문자열화
+    default String latin1(int start, int end) {
+        byte[] bytes = new byte[end - start];
+        for (int i = start; i < end; i++) {
+            bytes[i - start] = byteAt(i);
+        }
+        return new String(bytes, StandardCharsets.ISO_8859_1);
+    }
+
+    // 전체를 문자열로 만들지 않는 CharSequence 뷰 (바이트 = 문자)
+    default CharSequence asLatin1() {
+        ByteSource source = this;
+        return new CharSequence() {
+            @Override
+            public int length() {
+                return source.length();
+            }
+
+            @Override
+            public char charAt(int index) {
+                return (char) (source.byteAt(index) & 0xFF);
+            }
+
+            @Override
+            public CharSequence subSequence(int start, int end) {
+                return source.latin1(start, end);
+            }
+
+            @Override
+            public String toString() {
+                return source.latin1(0, source.length());
+            }
+        };
+    }
+
+    // 바이트 = 문자로 읽는 Reader (InputStreamReader의 디코딩 버퍼 없이 바로 채움)
+    default Reader asLatin1Reader() {
+        ByteSource source = this;
+        return new Reader() {
+            private int position;
+
+            @Override
+            public int read(char[] buffer, int offset, int length) {
+                int remaining = source.length() - position;
+                if (remaining <= 0) {
+                    return -1;
+                }
+                int count = Math.min(length, remaining);
+                for (int i = 0; i < count; i++) {
+                    buffer[offset + i] = (char) (source.byteAt(position++) & 0xFF);
+                }
+                return count;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+    }
+}
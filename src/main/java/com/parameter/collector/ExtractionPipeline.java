@@ -0,0 +1,171 @@
+package com.parameter.collector;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+// 파라미터 추출 작업을 HTTP 핸들러 스레드에서 분리하는 작업 큐 + 워커 풀
+class ExtractionPipeline {
+
+    enum BackpressurePolicy {
+        DROP("버림"),
+        SAMPLE("샘플링"),
+        BLOCK("대기");
+
+        private final String label;
+
+        BackpressurePolicy(String label) {
+            this.label = label;
+        }
+
+        @Override
+        public String toString() {
+            return label;
+        }
+    }
+
+    private final BlockingQueue<Runnable> queue;
+    private final Thread[] workers;
+    private final Consumer<Throwable> errorHandler;
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong sampleCounter = new AtomicLong();
+    // 큐에 들어갔지만 아직 끝나지 않은 작업 수 (awaitIdle용)
+    private final AtomicInteger pending = new AtomicInteger();
+    private final Object idleLock = new Object();
+
+    private volatile BackpressurePolicy policy = BackpressurePolicy.BLOCK;
+    private volatile int sampleRate = 10;
+    private volatile boolean running = true;
+
+    ExtractionPipeline(int capacity, int workerCount, Consumer<Throwable> errorHandler) {
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.errorHandler = errorHandler;
+        this.workers = new Thread[workerCount];
+        for (int i = 0; i < workerCount; i++) {
+            Thread worker = new Thread(this::runWorker, "ParameterCollector-worker-" + (i + 1));
+            worker.setDaemon(true);
+            workers[i] = worker;
+            worker.start();
+        }
+    }
+
+    // 큐에 작업을 넣는다. 정책에 따라 버려지면 false
+    boolean submit(Runnable task) {
+        if (!running) {
+            return false;
+        }
+        switch (policy) {
+            case BLOCK:
+                try {
+                    pending.incrementAndGet();
+                    queue.put(task);
+                    return true;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    finished();
+                    droppedCount.incrementAndGet();
+                    return false;
+                }
+            case SAMPLE:
+                // 큐가 절반 이상 차면 sampleRate 개 중 1개만 받는다
+                if (queue.size() * 2 >= capacity()
+                        && sampleCounter.incrementAndGet() % sampleRate != 0) {
+                    droppedCount.incrementAndGet();
+                    return false;
+                }
+                return offerOrDrop(task);
+            case DROP:
+            default:
+                return offerOrDrop(task);
+        }
+    }
+
+    // 큐가 가득 차 있으면 버린다
+    private boolean offerOrDrop(Runnable task) {
+        pending.incrementAndGet();
+        if (!queue.offer(task)) {
+            finished();
+            droppedCount.incrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    private void runWorker() {
+        while (running || !queue.isEmpty()) {
+            try {
+                Runnable task = queue.take();
+                try {
+                    task.run();
+                } finally {
+                    finished();
+                }
+            } catch (InterruptedException e) {
+                if (!running) {
+                    return;
+                }
+            } catch (Throwable t) {
+                errorHandler.accept(t);
+            }
+        }
+    }
+
+    private void finished() {
+        if (pending.decrementAndGet() == 0) {
+            synchronized (idleLock) {
+                idleLock.notifyAll();
+            }
+        }
+    }
+
+    // 지금까지 넣은 작업이 모두 끝날 때까지 대기 (헤드리스 재생에서 마지막 집계 전에 사용)
+    void awaitIdle() throws InterruptedException {
+        synchronized (idleLock) {
+            while (pending.get() > 0) {
+                idleLock.wait(100);
+            }
+        }
+    }
+
+    void shutdown() {
+        running = false;
+        queue.clear();
+        for (Thread worker : workers) {
+            worker.interrupt();
+        }
+    }
+
+    int queueDepth() {
+        return queue.size();
+    }
+
+    int capacity() {
+        return queue.size() + queue.remainingCapacity();
+    }
+
+    long droppedCount() {
+        return droppedCount.get();
+    }
+
+    int workerCount() {
+        return workers.length;
+    }
+
+    BackpressurePolicy getPolicy() {
+        return policy;
+    }
+
+    void setPolicy(BackpressurePolicy policy) {
+        this.policy = policy;
+    }
+
+    int getSampleRate() {
+        return sampleRate;
+    }
+
+    void setSampleRate(int sampleRate) {
+        this.sampleRate = Math.max(1, sampleRate);
+    }
+}
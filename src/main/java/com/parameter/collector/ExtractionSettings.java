@@ -0,0 +1,35 @@
+package com.parameter.collector;
+
+import java.util.Set;
+
+// 추출 워커가 읽는 설정 묶음 (불변). 설정 변경 시 새 객체로 통째로 교체해 워커가 중간 상태를 보지 않게 한다
+record ExtractionSettings(
+    int maxNameLength,
+    int maxValueLength,
+    boolean sensitiveFilterEnabled,
+    KeywordMatcher sensitiveMatcher,
+    JsonStreamExtractor jsonExtractor,
+    int responseMaxBytes
+) {
+    static final int DEFAULT_MAX_NAME_LENGTH = 30;
+    static final int DEFAULT_MAX_VALUE_LENGTH = 100;
+    static final int DEFAULT_JSON_MAX_DEPTH = 32;
+    // 0 = 제한 없음. 배열 인덱스는 기본으로 합치지 않는다 (기존 파라미터명 items[0].id 유지)
+    static final int DEFAULT_JSON_MAX_ARRAY_INDEX = 0;
+    static final boolean DEFAULT_JSON_COLLAPSE_ARRAY_INDICES = false;
+    static final int DEFAULT_RESPONSE_MAX_KB = 2048;
+    static final Set<String> DEFAULT_SENSITIVE_KEYWORDS = Set.of(
+        "password", "pass", "passwd", "pwd", "secret", "token",
+        "key", "credential", "auth", "api_key", "apikey",
+        "access_token", "refresh_token", "private_key"
+    );
+
+    // 설정 창의 기본값과 같은 설정 (헤드리스 재생, 벤치마크)
+    static ExtractionSettings defaults() {
+        return new ExtractionSettings(DEFAULT_MAX_NAME_LENGTH, DEFAULT_MAX_VALUE_LENGTH, true,
+            KeywordMatcher.compile(DEFAULT_SENSITIVE_KEYWORDS),
+            new JsonStreamExtractor(DEFAULT_JSON_MAX_DEPTH, DEFAULT_JSON_MAX_ARRAY_INDEX,
+                DEFAULT_JSON_COLLAPSE_ARRAY_INDICES),
+            DEFAULT_RESPONSE_MAX_KB * 1024);
+    }
+}
@@ -0,0 +1,238 @@
+package com.parameter.collector;
+
+// GraphQL 문서의 인라인 인자 스캐너 (파서 없이 한 번 훑음)
+// - 괄호 안의 이름: 리터럴 -> 인자명 = 값. 입력 객체 필드 {name: "x"}도 같은 방식으로 잡힌다
+// - 변수 참조($id)와 변수 정의($id: ID!), 디렉티브 인자(@include(if: ...)), null은 건너뜀
+// - 문자열("..." 과 """...""")과 주석(#)은 건너뛰어 그 안의 괄호/콜론에 속지 않음
+// 변수 값은 JSON 본문의 variables로 오므로 JSON 추출기가 뽑고, 여기서는 query 문자열만 본다
+final class GraphQlScanner {
+
+    private GraphQlScanner() {
+    }
+
+    // JSON 본문용 싱크: 그대로 넘기면서 최상위(또는 배치 배열 항목의) query 값이면 인자도 뽑는다
+    static ParameterSink withInlineArguments(ParameterSink sink) {
+        return (name, value) -> {
+            sink.accept(name, value);
+            if ((name.equals("query") || name.endsWith("].query")) && looksLikeDocument(value)) {
+                scan(value, sink);
+            }
+        };
+    }
+
+    // 작업/조각 정의 또는 선택 집합으로 시작하는 문자열만 GraphQL 문서로 본다
+    static boolean looksLikeDocument(CharSequence text) {
+        int i = skipIgnored(text, 0);
+        if (i >= text.length()) {
+            return false;
+        }
+        if (text.charAt(i) == '{') {
+            return true;
+        }
+        int end = identifierEnd(text, i);
+        String keyword = text.subSequence(i, end).toString();
+        return keyword.equals("query") || keyword.equals("mutation")
+            || keyword.equals("subscription") || keyword.equals("fragment");
+    }
+
+    static void scan(CharSequence document, ParameterSink sink) {
+        int length = document.length();
+        int parenDepth = 0;
+        int i = 0;
+        while (i < length) {
+            char c = document.charAt(i);
+            if (c == '#') {
+                i = skipComment(document, i);
+            } else if (c == '"') {
+                i = skipString(document, i, null);
+            } else if (c == '(') {
+                parenDepth++;
+                i++;
+            } else if (c == ')') {
+                parenDepth = Math.max(0, parenDepth - 1);
+                i++;
+            } else if (c == '$') {
+                // 변수 참조/정의 이름은 인자가 아님
+                i = identifierEnd(document, i + 1);
+            } else if (c == '@') {
+                // 디렉티브 이름과 인자 목록 통째로 건너뜀
+                i = skipIgnored(document, identifierEnd(document, i + 1));
+                if (i < length && document.charAt(i) == '(') {
+                    i = skipParentheses(document, i);
+                }
+            } else if (isNameStart(c)) {
+                int end = identifierEnd(document, i);
+                if (parenDepth > 0) {
+                    int colon = skipIgnored(document, end);
+                    if (colon < length && document.charAt(colon) == ':') {
+                        String name = document.subSequence(i, end).toString();
+                        end = readArgumentValue(document, skipIgnored(document, colon + 1), name, sink);
+                    }
+                }
+                i = end;
+            } else {
+                i++;
+            }
+        }
+    }
+
+    // 리터럴이면 값을 넘기고 그 뒤 위치를, 아니면({, [, $ 등) 값 시작 위치를 반환해 계속 훑게 한다
+    private static int readArgumentValue(CharSequence document, int start, String name, ParameterSink sink) {
+        int length = document.length();
+        if (start >= length) {
+            return start;
+        }
+        char c = document.charAt(start);
+        if (c == '"') {
+            StringBuilder value = new StringBuilder();
+            int end = skipString(document, start, value);
+            sink.accept(name, value.toString());
+            return end;
+        }
+        if (c == '-' || (c >= '0' && c <= '9')) {
+            int end = start + 1;
+            while (end < length && isNumberPart(document.charAt(end))) {
+                end++;
+            }
+            sink.accept(name, document.subSequence(start, end).toString());
+            return end;
+        }
+        if (isNameStart(c)) {
+            // true/false/열거형 값
+            int end = identifierEnd(document, start);
+            String value = document.subSequence(start, end).toString();
+            if (!value.equals("null")) {
+                sink.accept(name, value);
+            }
+            return end;
+        }
+        return start;
+    }
+
+    // 공백, 쉼표(무시 토큰), 주석을 건너뛴 위치
+    private static int skipIgnored(CharSequence text, int i) {
+        int length = text.length();
+        while (i < length) {
+            char c = text.charAt(i);
+            if (c == '#') {
+                i = skipComment(text, i);
+            } else if (c == ',' || c <= ' ' || c == '\uFEFF') {
+                i++;
+            } else {
+                break;
+            }
+        }
+        return i;
+    }
+
+    private static int skipComment(CharSequence text, int i) {
+        int length = text.length();
+        while (i < length && text.charAt(i) != '\n' && text.charAt(i) != '\r') {
+            i++;
+        }
+        return i;
+    }
+
+    // 짝이 맞는 닫는 괄호 다음 위치 (안의 문자열은 건너뜀)
+    private static int skipParentheses(CharSequence text, int i) {
+        int length = text.length();
+        int depth = 0;
+        while (i < length) {
+            char c = text.charAt(i);
+            if (c == '"') {
+                i = skipString(text, i, null);
+                continue;
+            }
+            if (c == '(') {
+                depth++;
+            } else if (c == ')' && --depth == 0) {
+                return i + 1;
+            }
+            i++;
+        }
+        return i;
+    }
+
+    // 문자열 다음 위치. value가 있으면 이스케이프를 풀어 담는다 (블록 문자열은 앞뒤 공백만 제거)
+    private static int skipString(CharSequence text, int start, StringBuilder value) {
+        int length = text.length();
+        if (start + 2 < length && text.charAt(start + 1) == '"' && text.charAt(start + 2) == '"') {
+            int i = start + 3;
+            int contentStart = i;
+            while (i < length) {
+                if (text.charAt(i) == '\\' && i + 3 < length && text.charAt(i + 1) == '"'
+                        && text.charAt(i + 2) == '"' && text.charAt(i + 3) == '"') {
+                    i += 4;
+                } else if (text.charAt(i) == '"' && i + 2 < length && text.charAt(i + 1) == '"' && text.charAt(i + 2) == '"') {
+                    break;
+                } else {
+                    i++;
+                }
+            }
+            if (value != null) {
+                value.append(text.subSequence(contentStart, Math.min(i, length)).toString().replace("\\\"\"\"", "\"\"\"").trim());
+            }
+            return Math.min(i + 3, length);
+        }
+        int i = start + 1;
+        while (i < length) {
+            char c = text.charAt(i);
+            if (c == '"' || c == '\n' || c == '\r') {
+                return i + 1;
+            }
+            if (c == '\\' && i + 1 < length) {
+                char escaped = text.charAt(i + 1);
+                i += 2;
+                if (value == null) {
+                    continue;
+                }
+                switch (escaped) {
+                    case 'n' -> value.append('\n');
+                    case 'r' -> value.append('\r');
+                    case 't' -> value.append('\t');
+                    case 'b' -> value.append('\b');
+                    case 'f' -> value.append('\f');
+                    case 'u' -> {
+                        if (i + 4 <= length) {
+                            try {
+                                value.append((char) Integer.parseInt(text.subSequence(i, i + 4).toString(), 16));
+                                i += 4;
+                            } catch (NumberFormatException e) {
+                                value.append('u');
+                            }
+                        } else {
+                            value.append('u');
+                        }
+                    }
+                    default -> value.append(escaped);
+                }
+                continue;
+            }
+            if (value != null) {
+                value.append(c);
+            }
+            i++;
+        }
+        return i;
+    }
+
+    private static int identifierEnd(CharSequence text, int i) {
+        int length = text.length();
+        while (i < length && isNamePart(text.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private static boolean isNameStart(char c) {
+        return c == '_' || (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z');
+    }
+
+    private static boolean isNamePart(char c) {
+        return isNameStart(c) || (c >= '0' && c <= '9');
+    }
+
+    private static boolean isNumberPart(char c) {
+        return (c >= '0' && c <= '9') || c == '.' || c == 'e' || c == 'E' || c == '+' || c == '-';
+    }
+}
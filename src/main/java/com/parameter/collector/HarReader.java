@@ -0,0 +1,142 @@
+package com.parameter.collector;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+// HAR(HTTP Archive) 리더: log.entries 배열을 스트리밍으로 돌며 항목 하나씩만 트리로 만든다
+// - 요청 본문은 postData.text(UTF-8), 응답 본문은 content.text (encoding이 base64면 디코딩)
+class HarReader implements TrafficReader {
+    private final boolean includeResponses;
+    private final int responseMaxBytes;
+
+    HarReader(boolean includeResponses, int responseMaxBytes) {
+        this.includeResponses = includeResponses;
+        this.responseMaxBytes = responseMaxBytes;
+    }
+
+    @Override
+    public void read(InputStream in, Sink sink) throws IOException {
+        JsonReader reader = new JsonReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        reader.setLenient(true);
+        if (!enter(reader, "log") || !enter(reader, "entries")) {
+            throw new IOException("HAR 형식이 아닙니다 (log.entries 없음)");
+        }
+        reader.beginArray();
+        while (reader.hasNext()) {
+            JsonElement entry = JsonParser.parseReader(reader);
+            if (entry.isJsonObject()) {
+                readEntry(entry.getAsJsonObject(), sink);
+            }
+        }
+    }
+
+    // 현재 객체에서 name 필드의 값 앞까지 이동 (나머지 필드는 건너뜀)
+    private static boolean enter(JsonReader reader, String name) throws IOException {
+        if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+            return false;
+        }
+        reader.beginObject();
+        while (reader.hasNext()) {
+            if (reader.nextName().equals(name)) {
+                return true;
+            }
+            reader.skipValue();
+        }
+        return false;
+    }
+
+    private void readEntry(JsonObject entry, Sink sink) {
+        JsonObject request = object(entry, "request");
+        if (request == null) {
+            return;
+        }
+        String url = string(request, "url");
+        String method = string(request, "method");
+        if (url == null || method == null) {
+            return;
+        }
+        String host = TrafficReader.hostOf(url);
+        String path = TrafficReader.pathOf(url);
+
+        Headers requestHeaders = headers(request);
+        JsonObject postData = object(request, "postData");
+        String contentType = requestHeaders.get("Content-Type");
+        if (contentType == null && postData != null) {
+            contentType = string(postData, "mimeType");
+        }
+        String text = postData == null ? null : string(postData, "text");
+        ByteSource body = ByteSource.of(text == null ? new byte[0] : text.getBytes(StandardCharsets.UTF_8));
+        sink.request(RequestSnapshot.capture(host, method, path, url, contentType == null ? "" : contentType,
+            body, requestHeaders::get, true, RequestSnapshot.DEFAULT_COLLECTABLE_HEADERS));
+
+        JsonObject response = object(entry, "response");
+        if (!includeResponses || response == null) {
+            return;
+        }
+        Headers responseHeaders = headers(response);
+        JsonObject content = object(response, "content");
+        String responseType = responseHeaders.get("Content-Type");
+        if (responseType == null && content != null) {
+            responseType = string(content, "mimeType");
+        }
+        ByteSource responseBody = content == null ? null : content(content);
+        ResponseSnapshot snapshot = ResponseSnapshot.capture(host, method, path, responseType, responseBody,
+            List.copyOf(responseHeaders.setCookies()), responseMaxBytes);
+        if (snapshot != null) {
+            sink.response(snapshot);
+        }
+    }
+
+    private static ByteSource content(JsonObject content) {
+        String text = string(content, "text");
+        if (text == null) {
+            return null;
+        }
+        if ("base64".equalsIgnoreCase(string(content, "encoding"))) {
+            try {
+                return ByteSource.of(Base64.getMimeDecoder().decode(text));
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+        }
+        return ByteSource.of(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Headers headers(JsonObject message) {
+        Headers headers = new Headers();
+        JsonElement array = message.get("headers");
+        if (array instanceof JsonArray list) {
+            for (JsonElement element : list) {
+                if (element.isJsonObject()) {
+                    String name = string(element.getAsJsonObject(), "name");
+                    String value = string(element.getAsJsonObject(), "value");
+                    if (name != null && value != null) {
+                        headers.add(name, value);
+                    }
+                }
+            }
+        }
+        return headers;
+    }
+
+    private static JsonObject object(JsonObject parent, String name) {
+        JsonElement element = parent.get(name);
+        return element != null && element.isJsonObject() ? element.getAsJsonObject() : null;
+    }
+
+    private static String string(JsonObject parent, String name) {
+        JsonElement element = parent.get(name);
+        return element != null && element.isJsonPrimitive() ? element.getAsString() : null;
+    }
+}
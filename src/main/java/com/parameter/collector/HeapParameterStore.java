@@ -0,0 +1,275 @@
+package com.parameter.collector;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
+
+// 힙 기반 파라미터 저장소 (기본)
+// - 값 중복 체크는 해시 인덱스로 O(1)
+// - 모든 값은 전역 엔트리 ID(삽입 순서)를 받고, 읽기는 락 없이 스냅샷 범위로 순회
+// - 쓰기(새 값 추가/삭제)만 저장소 락을 잡는다
+class HeapParameterStore implements ParameterStore {
+    private static final int CHUNK_BITS = 12;
+    private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+    private final ConcurrentHashMap<String, HeapValueSet> parameters = new ConcurrentHashMap<>();
+
+    // 파라미터명 삽입 순서
+    private volatile HeapValueSet[] parameterOrder = new HeapValueSet[16];
+    private volatile int parameterOrderSize;
+
+    // 엔트리 ID -> (소속 파라미터, 값, 발견 위치). 삭제된 엔트리는 값이 null
+    private volatile HeapValueSet[][] entryOwners = new HeapValueSet[16][];
+    private volatile String[][] entryValues = new String[16][];
+    private volatile int[][] entryContexts = new int[16][];
+    private volatile int entryCount;
+    private volatile int liveCount;
+
+    // 값 삭제 알림 (저널 등)
+    private final List<BiConsumer<String, String>> removalListeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public int add(String name, String value, int context) {
+        HeapValueSet values = parameters.get(name);
+        if (values != null && values.index.containsKey(value)) {
+            return -1;
+        }
+        synchronized (this) {
+            if (values == null) {
+                values = parameters.get(name);
+                if (values == null) {
+                    values = new HeapValueSet(name);
+                    appendParameter(values);
+                    parameters.put(name, values);
+                }
+            }
+            if (values.index.containsKey(value)) {
+                return -1;
+            }
+            int id = entryCount;
+            ensureEntryChunk(id);
+            entryOwners[id >>> CHUNK_BITS][id & CHUNK_MASK] = values;
+            entryValues[id >>> CHUNK_BITS][id & CHUNK_MASK] = value;
+            entryContexts[id >>> CHUNK_BITS][id & CHUNK_MASK] = context;
+            values.index.put(value, id);
+            values.append(id);
+            liveCount++;
+            entryCount = id + 1;
+            return id;
+        }
+    }
+
+    @Override
+    public boolean remove(String name, String value) {
+        HeapValueSet values = parameters.get(name);
+        if (values == null) {
+            return false;
+        }
+        synchronized (this) {
+            Integer id = values.index.remove(value);
+            if (id == null) {
+                return false;
+            }
+            entryValues[id >>> CHUNK_BITS][id & CHUNK_MASK] = null;
+            values.liveCount--;
+            liveCount--;
+        }
+        for (BiConsumer<String, String> listener : removalListeners) {
+            listener.accept(name, value);
+        }
+        return true;
+    }
+
+    @Override
+    public void addRemovalListener(BiConsumer<String, String> listener) {
+        removalListeners.add(listener);
+    }
+
+    @Override
+    public int find(String name, String value) {
+        HeapValueSet values = parameters.get(name);
+        if (values == null) {
+            return -1;
+        }
+        Integer id = values.index.get(value);
+        return id != null ? id : -1;
+    }
+
+    @Override
+    public int entryLimit() {
+        return entryCount;
+    }
+
+    @Override
+    public String nameAt(int id) {
+        return entryOwners[id >>> CHUNK_BITS][id & CHUNK_MASK].name;
+    }
+
+    @Override
+    public String valueAt(int id) {
+        return entryValues[id >>> CHUNK_BITS][id & CHUNK_MASK];
+    }
+
+    @Override
+    public boolean isLive(int id) {
+        return entryValues[id >>> CHUNK_BITS][id & CHUNK_MASK] != null;
+    }
+
+    @Override
+    public int contextAt(int id) {
+        return entryContexts[id >>> CHUNK_BITS][id & CHUNK_MASK];
+    }
+
+    @Override
+    public int size() {
+        return liveCount;
+    }
+
+    @Override
+    public int parameterCount() {
+        int count = 0;
+        for (HeapValueSet values : parameters.values()) {
+            if (values.size() > 0) count++;
+        }
+        return count;
+    }
+
+    @Override
+    public ValueSet values(String name) {
+        return parameters.get(name);
+    }
+
+    @Override
+    public Iterable<ValueSet> parameters() {
+        int limit = parameterOrderSize;
+        HeapValueSet[] order = parameterOrder;
+        return () -> new Iterator<>() {
+            private int next = advance(0);
+
+            private int advance(int from) {
+                while (from < limit && order[from].size() == 0) from++;
+                return from;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return next < limit;
+            }
+
+            @Override
+            public ValueSet next() {
+                if (next >= limit) throw new NoSuchElementException();
+                HeapValueSet values = order[next];
+                next = advance(next + 1);
+                return values;
+            }
+        };
+    }
+
+    private void appendParameter(HeapValueSet values) {
+        HeapValueSet[] order = parameterOrder;
+        if (parameterOrderSize == order.length) {
+            HeapValueSet[] grown = new HeapValueSet[order.length * 2];
+            System.arraycopy(order, 0, grown, 0, order.length);
+            parameterOrder = order = grown;
+        }
+        order[parameterOrderSize] = values;
+        parameterOrderSize = parameterOrderSize + 1;
+    }
+
+    private void ensureEntryChunk(int id) {
+        int chunk = id >>> CHUNK_BITS;
+        if (chunk == entryValues.length) {
+            HeapValueSet[][] owners = new HeapValueSet[chunk * 2][];
+            String[][] values = new String[chunk * 2][];
+            int[][] contexts = new int[chunk * 2][];
+            System.arraycopy(entryOwners, 0, owners, 0, chunk);
+            System.arraycopy(entryValues, 0, values, 0, chunk);
+            System.arraycopy(entryContexts, 0, contexts, 0, chunk);
+            entryOwners = owners;
+            entryValues = values;
+            entryContexts = contexts;
+        }
+        if (entryValues[chunk] == null) {
+            entryOwners[chunk] = new HeapValueSet[CHUNK_SIZE];
+            entryValues[chunk] = new String[CHUNK_SIZE];
+            entryContexts[chunk] = new int[CHUNK_SIZE];
+        }
+    }
+
+    // 한 파라미터의 값 집합. 값은 삽입 순서대로 엔트리 ID 목록으로 보관
+    private final class HeapValueSet implements ValueSet {
+        private final String name;
+        private final ConcurrentHashMap<String, Integer> index = new ConcurrentHashMap<>();
+        private volatile int[] ids = new int[4];
+        private volatile int idCount;
+        private volatile int liveCount;
+
+        private HeapValueSet(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String name() {
+            return name;
+        }
+
+        @Override
+        public int size() {
+            return liveCount;
+        }
+
+        @Override
+        public boolean contains(String value) {
+            return index.containsKey(value);
+        }
+
+        private void append(int id) {
+            int[] current = ids;
+            if (idCount == current.length) {
+                int[] grown = new int[current.length * 2];
+                System.arraycopy(current, 0, grown, 0, current.length);
+                ids = current = grown;
+            }
+            current[idCount] = id;
+            liveCount++;
+            idCount = idCount + 1;
+        }
+
+        // 삽입 순서대로 순회 (호출 시점 스냅샷, 삭제된 값은 건너뜀)
+        @Override
+        public Iterator<String> iterator() {
+            int limit = idCount;
+            int[] snapshot = ids;
+            return new Iterator<>() {
+                private int position;
+                private String next = advance();
+
+                private String advance() {
+                    while (position < limit) {
+                        String value = valueAt(snapshot[position++]);
+                        if (value != null) return value;
+                    }
+                    return null;
+                }
+
+                @Override
+                public boolean hasNext() {
+                    return next != null;
+                }
+
+                @Override
+                public String next() {
+                    if (next == null) throw new NoSuchElementException();
+                    String value = next;
+                    next = advance();
+                    return value;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,251 @@
+package com.parameter.collector;
+
+// 응답 HTML을 한 번 훑으며 파라미터를 뽑는 스트리밍 토크나이저 (DOM을 만들지 않음)
+// - <input name=.. value=..> -> (name, value)
+// - <form action>, formaction, href, src 의 쿼리 문자열 -> QueryStringTokenizer
+// - 주석, <script>/<style> 본문은 건너뛰고 필요한 속성 값만 문자열로 만든다
+final class HtmlParameterScanner {
+
+    private HtmlParameterScanner() {
+    }
+
+    static void scan(CharSequence html, int end, ParameterSink sink) {
+        int i = 0;
+        while (i < end) {
+            int open = indexOf(html, '<', i, end);
+            if (open < 0 || open + 1 >= end) {
+                return;
+            }
+            char first = html.charAt(open + 1);
+            if (first == '!') {
+                i = startsWith(html, open, end, "<!--")
+                    ? skipPast(html, open + 4, end, "-->")
+                    : skipPast(html, open + 2, end, ">");
+                continue;
+            }
+            if (!isLetter(first)) {
+                // 닫는 태그, 처리 명령 등
+                i = skipPast(html, open + 1, end, ">");
+                continue;
+            }
+            i = scanTag(html, open + 1, end, sink);
+        }
+    }
+
+    // 태그 이름부터 '>'까지 읽고 다음 위치 반환
+    private static int scanTag(CharSequence html, int start, int end, ParameterSink sink) {
+        int nameEnd = start;
+        while (nameEnd < end && isTagNameChar(html.charAt(nameEnd))) nameEnd++;
+        String tag = lowerAscii(html, start, nameEnd);
+        boolean input = tag.equals("input");
+
+        String name = null;
+        String value = null;
+        int i = nameEnd;
+        while (i < end) {
+            char c = html.charAt(i);
+            if (c == '>') {
+                i++;
+                break;
+            }
+            if (isSpace(c) || c == '/') {
+                i++;
+                continue;
+            }
+            // 속성 이름
+            int attrStart = i;
+            while (i < end && !isSpace(html.charAt(i)) && html.charAt(i) != '=' && html.charAt(i) != '>') i++;
+            int attrEnd = i;
+            while (i < end && isSpace(html.charAt(i))) i++;
+            if (i >= end || html.charAt(i) != '=') {
+                continue;
+            }
+            i++;
+            while (i < end && isSpace(html.charAt(i))) i++;
+
+            // 속성 값 (따옴표 / 따옴표 없음)
+            int valueStart;
+            int valueEnd;
+            if (i < end && (html.charAt(i) == '"' || html.charAt(i) == '\'')) {
+                char quote = html.charAt(i);
+                valueStart = i + 1;
+                valueEnd = indexOf(html, quote, valueStart, end);
+                if (valueEnd < 0) valueEnd = end;
+                i = Math.min(end, valueEnd + 1);
+            } else {
+                valueStart = i;
+                while (i < end && !isSpace(html.charAt(i)) && html.charAt(i) != '>') i++;
+                valueEnd = i;
+            }
+
+            int attrLength = attrEnd - attrStart;
+            if (input && attrLength == 4 && regionMatches(html, attrStart, "name")) {
+                name = decodeEntities(html, valueStart, valueEnd, StringDictionary.NAMES);
+            } else if (input && attrLength == 5 && regionMatches(html, attrStart, "value")) {
+                value = decodeEntities(html, valueStart, valueEnd, StringDictionary.VALUES);
+            } else if (isUrlAttribute(html, attrStart, attrLength, tag)) {
+                if (!isIgnoredUrl(html, valueStart, valueEnd)) {
+                    QueryStringTokenizer.parseUrl(decodeEntities(html, valueStart, valueEnd), sink);
+                }
+            }
+        }
+
+        if (input && name != null && !name.isEmpty()) {
+            sink.accept(name, value != null ? value : "");
+        }
+        // <script>, <style> 본문은 건너뜀
+        if (tag.equals("script") || tag.equals("style")) {
+            int close = indexOfIgnoreCase(html, "</" + tag, i, end);
+            return close < 0 ? end : close;
+        }
+        return i;
+    }
+
+    // href, src, formaction, <form action>
+    private static boolean isUrlAttribute(CharSequence html, int start, int length, String tag) {
+        return (length == 4 && regionMatches(html, start, "href"))
+            || (length == 3 && regionMatches(html, start, "src"))
+            || (length == 10 && regionMatches(html, start, "formaction"))
+            || (length == 6 && tag.equals("form") && regionMatches(html, start, "action"));
+    }
+
+    // 쿼리 문자열이 없거나 data:, javascript: URL이면 문자열로 만들지 않음
+    private static boolean isIgnoredUrl(CharSequence html, int start, int end) {
+        while (start < end && isSpace(html.charAt(start))) start++;
+        if (startsWithIgnoreCase(html, start, end, "data:") || startsWithIgnoreCase(html, start, end, "javascript:")) {
+            return true;
+        }
+        return indexOf(html, '?', start, end) < 0;
+    }
+
+    // 문자 참조가 없으면 원본 범위로 사전에서 찾음 (같은 폼을 다시 볼 때 문자열을 만들지 않음)
+    private static String decodeEntities(CharSequence html, int start, int end, StringDictionary dictionary) {
+        if (indexOf(html, '&', start, end) < 0) {
+            return dictionary.intern(html, start, end);
+        }
+        return dictionary.intern(decodeEntities(html, start, end));
+    }
+
+    // 자주 쓰는 문자 참조만 해석 (&amp; &lt; &gt; &quot; &apos; &#39; &#x27; ...)
+    static String decodeEntities(CharSequence html, int start, int end) {
+        if (indexOf(html, '&', start, end) < 0) {
+            return html.subSequence(start, end).toString();
+        }
+        StringBuilder out = new StringBuilder(end - start);
+        int i = start;
+        while (i < end) {
+            char c = html.charAt(i);
+            if (c != '&') {
+                out.append(c);
+                i++;
+                continue;
+            }
+            int semicolon = indexOf(html, ';', i + 1, Math.min(end, i + 12));
+            if (semicolon < 0) {
+                out.append(c);
+                i++;
+                continue;
+            }
+            String entity = html.subSequence(i + 1, semicolon).toString();
+            int decoded = decodeEntity(entity);
+            if (decoded < 0) {
+                out.append(c);
+                i++;
+                continue;
+            }
+            out.appendCodePoint(decoded);
+            i = semicolon + 1;
+        }
+        return out.toString();
+    }
+
+    private static int decodeEntity(String entity) {
+        switch (entity) {
+            case "amp": return '&';
+            case "lt": return '<';
+            case "gt": return '>';
+            case "quot": return '"';
+            case "apos": return '\'';
+            case "nbsp": return 0xA0;
+            default:
+                break;
+        }
+        if (entity.length() < 2 || entity.charAt(0) != '#') {
+            return -1;
+        }
+        try {
+            int codePoint = entity.charAt(1) == 'x' || entity.charAt(1) == 'X'
+                ? Integer.parseInt(entity.substring(2), 16)
+                : Integer.parseInt(entity.substring(1));
+            return Character.isValidCodePoint(codePoint) ? codePoint : -1;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static int skipPast(CharSequence html, int from, int end, String terminator) {
+        int found = indexOfIgnoreCase(html, terminator, from, end);
+        return found < 0 ? end : found + terminator.length();
+    }
+
+    private static int indexOf(CharSequence text, char c, int from, int end) {
+        for (int i = from; i < end; i++) {
+            if (text.charAt(i) == c) return i;
+        }
+        return -1;
+    }
+
+    private static int indexOfIgnoreCase(CharSequence text, String search, int from, int end) {
+        char first = search.charAt(0);
+        for (int i = from; i + search.length() <= end; i++) {
+            if (text.charAt(i) == first && startsWithIgnoreCase(text, i, end, search)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean startsWith(CharSequence text, int start, int end, String prefix) {
+        if (start + prefix.length() > end) return false;
+        for (int i = 0; i < prefix.length(); i++) {
+            if (text.charAt(start + i) != prefix.charAt(i)) return false;
+        }
+        return true;
+    }
+
+    private static boolean startsWithIgnoreCase(CharSequence text, int start, int end, String prefix) {
+        return start + prefix.length() <= end && regionMatches(text, start, prefix);
+    }
+
+    // search는 소문자
+    private static boolean regionMatches(CharSequence text, int start, String search) {
+        for (int i = 0; i < search.length(); i++) {
+            if (toLowerAscii(text.charAt(start + i)) != search.charAt(i)) return false;
+        }
+        return true;
+    }
+
+    private static String lowerAscii(CharSequence text, int start, int end) {
+        StringBuilder out = new StringBuilder(end - start);
+        for (int i = start; i < end; i++) {
+            out.append(toLowerAscii(text.charAt(i)));
+        }
+        return out.toString();
+    }
+
+    private static char toLowerAscii(char c) {
+        return c >= 'A' && c <= 'Z' ? (char) (c + 32) : c;
+    }
+
+    private static boolean isLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static boolean isTagNameChar(char c) {
+        return isLetter(c) || (c >= '0' && c <= '9') || c == '-';
+    }
+
+    private static boolean isSpace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\r' || c == '\f';
+    }
+}
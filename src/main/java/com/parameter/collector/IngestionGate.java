@@ -0,0 +1,253 @@
+package com.parameter.collector;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BooleanSupplier;
+import java.util.function.LongSupplier;
+
+// 추출 앞단의 수집 관문 (Burp 핸들러 스레드에서 스냅샷을 만들기 전에 호출)
+// - 도구별 정책: 전체 수집 / 형태 중복 제외 / 수집 안 함
+// - Burp 대상 범위(Target scope) 밖의 요청 제외 (선택)
+// - 형태 = 엔드포인트 템플릿 + 정렬된 파라미터명 집합. 지문을 LRU로 기억해 이미 본 형태는 건너뜀
+//   (Intruder/Scanner처럼 같은 파라미터 구성을 수천 번 보내는 트래픽용)
+// - 도구별/호스트별 토큰 버킷으로 초당 수집 요청 수 제한 (0 = 제한 없음)
+// 정책/범위/중복은 토큰을 쓰지 않고 먼저 거른다. 설정은 Settings를 통째로 바꿔 반영
+final class IngestionGate {
+
+    enum Tool {
+        PROXY("Proxy"),
+        REPEATER("Repeater"),
+        INTRUDER("Intruder"),
+        SCANNER("Scanner"),
+        EXTENSIONS("확장"),
+        OTHER("기타");
+
+        private final String label;
+
+        Tool(String label) {
+            this.label = label;
+        }
+
+        // Burp ToolType 이름 -> 도구 (목록에 없으면 OTHER)
+        static Tool of(String toolTypeName) {
+            for (Tool tool : values()) {
+                if (tool.name().equals(toolTypeName)) {
+                    return tool;
+                }
+            }
+            return OTHER;
+        }
+
+        @Override
+        public String toString() {
+            return label;
+        }
+    }
+
+    enum Mode {
+        FULL("전체 수집"),
+        DEDUP("형태 중복 제외"),
+        OFF("수집 안 함");
+
+        private final String label;
+
+        Mode(String label) {
+            this.label = label;
+        }
+
+        @Override
+        public String toString() {
+            return label;
+        }
+    }
+
+    enum Decision {
+        ADMIT("수집"),
+        TOOL_OFF("도구 제외"),
+        OUT_OF_SCOPE("범위 밖"),
+        DUPLICATE_SHAPE("형태 중복"),
+        RATE_LIMITED("속도 제한");
+
+        private final String label;
+
+        Decision(String label) {
+            this.label = label;
+        }
+
+        @Override
+        public String toString() {
+            return label;
+        }
+    }
+
+    record Settings(
+        boolean scopeOnly,
+        Map<Tool, Mode> modes,
+        // 도구별 초당 요청 수 (0 = 제한 없음)
+        Map<Tool, Integer> toolRates,
+        // 호스트별 초당 요청 수 (0 = 제한 없음)
+        int hostRate,
+        // 기억할 형태 지문 개수
+        int shapeCacheSize
+    ) {
+        static final int DEFAULT_SHAPE_CACHE_SIZE = 100_000;
+
+        // 자동화 도구(Intruder, Scanner)만 형태 중복을 건너뛰고 나머지는 전체 수집
+        static Settings defaults() {
+            Map<Tool, Mode> modes = new EnumMap<>(Tool.class);
+            Map<Tool, Integer> rates = new EnumMap<>(Tool.class);
+            for (Tool tool : Tool.values()) {
+                modes.put(tool, tool == Tool.INTRUDER || tool == Tool.SCANNER ? Mode.DEDUP : Mode.FULL);
+                rates.put(tool, 0);
+            }
+            return new Settings(false, modes, rates, 0, DEFAULT_SHAPE_CACHE_SIZE);
+        }
+
+        Mode mode(Tool tool) {
+            return modes.getOrDefault(tool, Mode.FULL);
+        }
+
+        int toolRate(Tool tool) {
+            return toolRates.getOrDefault(tool, 0);
+        }
+    }
+
+    // 설정과 그 설정으로 만든 버킷/지문 캐시를 한 번에 교체
+    private record State(Settings settings, TokenBucket[] toolBuckets,
+                         ConcurrentHashMap<String, TokenBucket> hostBuckets, ShapeCache shapes) {
+    }
+
+    private volatile State state;
+
+    IngestionGate(Settings settings) {
+        configure(settings);
+    }
+
+    // 바꾸면 버킷은 가득 찬 상태로, 형태 기억은 비운 상태로 다시 시작
+    void configure(Settings settings) {
+        TokenBucket[] toolBuckets = new TokenBucket[Tool.values().length];
+        for (Tool tool : Tool.values()) {
+            int rate = settings.toolRate(tool);
+            toolBuckets[tool.ordinal()] = rate > 0 ? new TokenBucket(rate) : null;
+        }
+        state = new State(settings, toolBuckets, new ConcurrentHashMap<>(),
+            new ShapeCache(Math.max(1, settings.shapeCacheSize())));
+    }
+
+    Settings settings() {
+        return state.settings();
+    }
+
+    // inScope/shape는 필요할 때만 계산 (범위 검사와 파라미터 파싱은 공짜가 아님)
+    Decision check(Tool tool, String host, BooleanSupplier inScope, LongSupplier shape) {
+        State current = state;
+        Settings settings = current.settings();
+        Mode mode = settings.mode(tool);
+        if (mode == Mode.OFF) {
+            return Decision.TOOL_OFF;
+        }
+        if (settings.scopeOnly() && !inScope.getAsBoolean()) {
+            return Decision.OUT_OF_SCOPE;
+        }
+        long fingerprint = 0;
+        if (mode == Mode.DEDUP) {
+            fingerprint = shape.getAsLong();
+            if (current.shapes().contains(fingerprint)) {
+                return Decision.DUPLICATE_SHAPE;
+            }
+        }
+        TokenBucket toolBucket = current.toolBuckets()[tool.ordinal()];
+        if (toolBucket != null && !toolBucket.tryAcquire()) {
+            return Decision.RATE_LIMITED;
+        }
+        if (settings.hostRate() > 0) {
+            String key = host == null ? "" : host.toLowerCase();
+            TokenBucket hostBucket = current.hostBuckets().computeIfAbsent(key, k -> new TokenBucket(settings.hostRate()));
+            if (!hostBucket.tryAcquire()) {
+                return Decision.RATE_LIMITED;
+            }
+        }
+        // 실제로 수집하는 요청의 형태만 기억 (속도 제한으로 빠진 형태는 다음에 다시 기회가 있다)
+        if (mode == Mode.DEDUP) {
+            current.shapes().add(fingerprint);
+        }
+        return Decision.ADMIT;
+    }
+
+    // 형태 지문: 엔드포인트 번호 + 요청/응답 구분 + 중복 없이 정렬한 파라미터명 (64비트 FNV-1a)
+    static long shapeOf(int endpointId, boolean response, String[] names) {
+        String[] sorted = names.clone();
+        Arrays.sort(sorted);
+        long hash = 0xcbf29ce484222325L;
+        hash = mix(hash, endpointId);
+        hash = mix(hash, response ? 1 : 0);
+        String previous = null;
+        for (String name : sorted) {
+            if (name.equals(previous)) {
+                continue;
+            }
+            previous = name;
+            for (int i = 0; i < name.length(); i++) {
+                hash = mix(hash, name.charAt(i));
+            }
+            // 이름 경계 (a + bc 와 ab + c 구분)
+            hash = mix(hash, 0x10000);
+        }
+        return hash;
+    }
+
+    private static long mix(long hash, int value) {
+        return (hash ^ value) * 0x100000001b3L;
+    }
+
+    // 접근 순서 LRU (용량을 넘으면 가장 오래 안 본 지문부터 잊음)
+    private static final class ShapeCache {
+        private final LinkedHashMap<Long, Boolean> entries;
+
+        private ShapeCache(int capacity) {
+            this.entries = new LinkedHashMap<>(Math.min(capacity, 1024), 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, Boolean> eldest) {
+                    return size() > capacity;
+                }
+            };
+        }
+
+        private synchronized boolean contains(long fingerprint) {
+            return entries.get(fingerprint) != null;
+        }
+
+        private synchronized void add(long fingerprint) {
+            entries.put(fingerprint, Boolean.TRUE);
+        }
+    }
+
+    // 초당 rate개씩 채워지고 최대 rate개(1초 분량)까지 모이는 버킷
+    private static final class TokenBucket {
+        private final double ratePerNano;
+        private final double capacity;
+        private double tokens;
+        private long lastRefill;
+
+        private TokenBucket(int ratePerSecond) {
+            this.ratePerNano = ratePerSecond / 1_000_000_000.0;
+            this.capacity = Math.max(1, ratePerSecond);
+            this.tokens = capacity;
+            this.lastRefill = System.nanoTime();
+        }
+
+        private synchronized boolean tryAcquire() {
+            long now = System.nanoTime();
+            tokens = Math.min(capacity, tokens + (now - lastRefill) * ratePerNano);
+            lastRefill = now;
+            if (tokens < 1) {
+                return false;
+            }
+            tokens -= 1;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.parameter.collector;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+// 수집 경로 계측 (핸들러/추출 워커에서 잠금 없이 기록, 메트릭 탭과 JSON 내보내기에서 읽음)
+// - 횟수는 LongAdder(스레드별 셀)로, 지연 시간은 LatencyHistogram으로 센다
+// - 초당 처리량은 두 스냅샷의 차이로 계산 (읽는 쪽 책임)
+final class IngestionMetrics {
+
+    enum Stage {
+        HANDLER("핸들러 (Burp 스레드)"),
+        URL("URL"),
+        FORM("폼"),
+        JSON("JSON"),
+        MULTIPART("멀티파트"),
+        XML("XML"),
+        GRAPHQL("GraphQL"),
+        TEXT("텍스트"),
+        COOKIE("쿠키"),
+        HEADER("헤더"),
+        RESPONSE("응답"),
+        STORE("저장소 추가");
+
+        private final String label;
+
+        Stage(String label) {
+            this.label = label;
+        }
+
+        @Override
+        public String toString() {
+            return label;
+        }
+    }
+
+    private final Map<Stage, LatencyHistogram> latencies = new EnumMap<>(Stage.class);
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder responses = new LongAdder();
+    private final LongAdder valuesExtracted = new LongAdder();
+    private final LongAdder valuesStored = new LongAdder();
+    // 수집 관문에서 건너뛴 요청/응답 (사유별)
+    private final Map<IngestionGate.Decision, LongAdder> skipped = new EnumMap<>(IngestionGate.Decision.class);
+
+    IngestionMetrics() {
+        for (Stage stage : Stage.values()) {
+            latencies.put(stage, new LatencyHistogram());
+        }
+        for (IngestionGate.Decision decision : IngestionGate.Decision.values()) {
+            if (decision != IngestionGate.Decision.ADMIT) {
+                skipped.put(decision, new LongAdder());
+            }
+        }
+    }
+
+    // start는 System.nanoTime() 값
+    void record(Stage stage, long start) {
+        latencies.get(stage).record(System.nanoTime() - start);
+    }
+
+    void onRequest() {
+        requests.increment();
+    }
+
+    void onResponse() {
+        responses.increment();
+    }
+
+    void onSkipped(IngestionGate.Decision decision) {
+        skipped.get(decision).increment();
+    }
+
+    // stored: 저장소에 새로 들어갔는지
+    void onValue(boolean stored) {
+        valuesExtracted.increment();
+        if (stored) {
+            valuesStored.increment();
+        }
+    }
+
+    // 호출 시점 값 (저장소/큐/힙 상태는 부르는 쪽에서 채움)
+    Snapshot snapshot(int queueDepth, int queueCapacity, long dropped, int storedValues, int parameterCount) {
+        Map<Stage, LatencyHistogram.Snapshot> stages = new EnumMap<>(Stage.class);
+        for (Map.Entry<Stage, LatencyHistogram> entry : latencies.entrySet()) {
+            stages.put(entry.getKey(), entry.getValue().snapshot());
+        }
+        Map<IngestionGate.Decision, Long> skippedCounts = new EnumMap<>(IngestionGate.Decision.class);
+        for (Map.Entry<IngestionGate.Decision, LongAdder> entry : skipped.entrySet()) {
+            skippedCounts.put(entry.getKey(), entry.getValue().sum());
+        }
+        Runtime runtime = Runtime.getRuntime();
+        return new Snapshot(System.nanoTime(), System.currentTimeMillis(),
+            requests.sum(), responses.sum(), valuesExtracted.sum(), valuesStored.sum(),
+            queueDepth, queueCapacity, dropped, storedValues, parameterCount,
+            runtime.totalMemory() - runtime.freeMemory(), runtime.maxMemory(), stages, skippedCounts);
+    }
+
+    record Snapshot(
+        long nanoTime,
+        long timestamp,
+        long requests,
+        long responses,
+        long valuesExtracted,
+        long valuesStored,
+        int queueDepth,
+        int queueCapacity,
+        long dropped,
+        int storedValues,
+        int parameterCount,
+        long heapUsed,
+        long heapMax,
+        Map<Stage, LatencyHistogram.Snapshot> stages,
+        Map<IngestionGate.Decision, Long> skipped
+    ) {
+
+        long skippedTotal() {
+            long total = 0;
+            for (long count : skipped.values()) {
+                total += count;
+            }
+            return total;
+        }
+
+        // previous 이후 초당 값 (previous가 없으면 0)
+        double perSecond(Snapshot previous, long current, long before) {
+            if (previous == null || nanoTime <= previous.nanoTime) {
+                return 0;
+            }
+            return (current - before) * 1_000_000_000.0 / (nanoTime - previous.nanoTime);
+        }
+
+        double extractedPerSecond(Snapshot previous) {
+            return perSecond(previous, valuesExtracted, previous == null ? 0 : previous.valuesExtracted);
+        }
+
+        double storedPerSecond(Snapshot previous) {
+            return perSecond(previous, valuesStored, previous == null ? 0 : previous.valuesStored);
+        }
+
+        double requestsPerSecond(Snapshot previous) {
+            return perSecond(previous, requests, previous == null ? 0 : previous.requests);
+        }
+
+        JsonObject toJson(Snapshot previous) {
+            JsonObject json = new JsonObject();
+            json.addProperty("timestamp", timestamp);
+            json.addProperty("requests", requests);
+            json.addProperty("responses", responses);
+            json.addProperty("valuesExtracted", valuesExtracted);
+            json.addProperty("valuesStored", valuesStored);
+            json.addProperty("requestsPerSecond", requestsPerSecond(previous));
+            json.addProperty("valuesExtractedPerSecond", extractedPerSecond(previous));
+            json.addProperty("valuesStoredPerSecond", storedPerSecond(previous));
+            json.addProperty("queueDepth", queueDepth);
+            json.addProperty("queueCapacity", queueCapacity);
+            json.addProperty("dropped", dropped);
+            json.addProperty("storedValues", storedValues);
+            json.addProperty("parameterCount", parameterCount);
+            json.addProperty("heapUsedBytes", heapUsed);
+            json.addProperty("heapMaxBytes", heapMax);
+            JsonObject skippedJson = new JsonObject();
+            for (Map.Entry<IngestionGate.Decision, Long> entry : skipped.entrySet()) {
+                skippedJson.addProperty(entry.getKey().name(), entry.getValue());
+            }
+            json.add("skipped", skippedJson);
+            JsonArray stageArray = new JsonArray();
+            for (Map.Entry<Stage, LatencyHistogram.Snapshot> entry : stages.entrySet()) {
+                LatencyHistogram.Snapshot latency = entry.getValue();
+                JsonObject stage = new JsonObject();
+                stage.addProperty("stage", entry.getKey().name());
+                stage.addProperty("count", latency.count());
+                stage.addProperty("meanNanos", latency.meanNanos());
+                stage.addProperty("p50Nanos", latency.percentile(50));
+                stage.addProperty("p99Nanos", latency.percentile(99));
+                stage.addProperty("p999Nanos", latency.percentile(99.9));
+                stage.addProperty("maxNanos", latency.maxNanos());
+                stage.addProperty("totalNanos", latency.sumNanos());
+                stageArray.add(stage);
+            }
+            json.add("stages", stageArray);
+            return json;
+        }
+    }
+}
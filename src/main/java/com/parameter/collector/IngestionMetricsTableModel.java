@@ -0,0 +1,74 @@
+package com.parameter.collector;
+
+import javax.swing.table.AbstractTableModel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+// 메트릭 탭의 단계별 지연 시간 테이블 모델 (EDT 전용). 시간은 마이크로초로 표시
+@SuppressWarnings("serial")
+class IngestionMetricsTableModel extends AbstractTableModel {
+    private static final String[] COLUMNS = {
+        "단계", "횟수", "평균 (µs)", "p50 (µs)", "p99 (µs)", "p99.9 (µs)", "최대 (µs)", "누적 (ms)"
+    };
+    private static final Class<?>[] COLUMN_CLASSES = {
+        String.class, Long.class, Double.class, Double.class, Double.class, Double.class, Double.class, Double.class
+    };
+
+    private final List<IngestionMetrics.Stage> stages = new ArrayList<>();
+    private final List<LatencyHistogram.Snapshot> latencies = new ArrayList<>();
+
+    void update(IngestionMetrics.Snapshot snapshot) {
+        boolean first = stages.isEmpty();
+        stages.clear();
+        latencies.clear();
+        for (Map.Entry<IngestionMetrics.Stage, LatencyHistogram.Snapshot> entry : snapshot.stages().entrySet()) {
+            stages.add(entry.getKey());
+            latencies.add(entry.getValue());
+        }
+        if (first) {
+            fireTableDataChanged();
+        } else {
+            fireTableRowsUpdated(0, stages.size() - 1);
+        }
+    }
+
+    @Override
+    public int getRowCount() {
+        return stages.size();
+    }
+
+    @Override
+    public int getColumnCount() {
+        return COLUMNS.length;
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        return COLUMNS[column];
+    }
+
+    @Override
+    public Class<?> getColumnClass(int columnIndex) {
+        return COLUMN_CLASSES[columnIndex];
+    }
+
+    @Override
+    public Object getValueAt(int rowIndex, int columnIndex) {
+        LatencyHistogram.Snapshot latency = latencies.get(rowIndex);
+        return switch (columnIndex) {
+            case 0 -> stages.get(rowIndex).toString();
+            case 1 -> latency.count();
+            case 2 -> micros(latency.meanNanos());
+            case 3 -> micros(latency.percentile(50));
+            case 4 -> micros(latency.percentile(99));
+            case 5 -> micros(latency.percentile(99.9));
+            case 6 -> micros(latency.maxNanos());
+            default -> Math.round(latency.sumNanos() / 10_000.0) / 100.0;
+        };
+    }
+
+    private static double micros(long nanos) {
+        return Math.round(nanos / 100.0) / 10.0;
+    }
+}
@@ -0,0 +1,110 @@
+package com.parameter.collector;
+
+import com.google.gson.stream.JsonReader;
+
+import java.io.IOException;
+import java.io.Reader;
+
+// JsonReader 기반 스트리밍 JSON 추출기 (트리를 만들지 않음)
+// 경로는 스레드별 StringBuilder 하나를 재사용하고, 값을 만나면 이름 사전에서 찾는다 (처음 보는 경로만 문자열로 만듦)
+final class JsonStreamExtractor {
+    private static final ThreadLocal<StringBuilder> PATH_BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(128));
+
+    private final int maxDepth;
+    private final int maxArrayIndex;
+    private final boolean collapseArrayIndices;
+
+    // maxDepth: 이보다 깊은 객체/배열은 건너뜀
+    // maxArrayIndex: 배열마다 앞에서부터 이 개수만 읽음 (0 = 제한 없음)
+    // collapseArrayIndices: items[0].id, items[1].id -> items[].id
+    JsonStreamExtractor(int maxDepth, int maxArrayIndex, boolean collapseArrayIndices) {
+        this.maxDepth = maxDepth;
+        this.maxArrayIndex = maxArrayIndex;
+        this.collapseArrayIndices = collapseArrayIndices;
+    }
+
+    int maxDepth() {
+        return maxDepth;
+    }
+
+    int maxArrayIndex() {
+        return maxArrayIndex;
+    }
+
+    boolean collapseArrayIndices() {
+        return collapseArrayIndices;
+    }
+
+    void extract(Reader input, ParameterSink sink) throws IOException {
+        JsonReader reader = new JsonReader(input);
+        reader.setLenient(true);
+        StringBuilder path = PATH_BUFFER.get();
+        path.setLength(0);
+        readValue(reader, path, 0, sink);
+    }
+
+    private void readValue(JsonReader reader, StringBuilder path, int depth, ParameterSink sink) throws IOException {
+        switch (reader.peek()) {
+            case BEGIN_OBJECT:
+                if (depth >= maxDepth) {
+                    reader.skipValue();
+                    return;
+                }
+                reader.beginObject();
+                int objectMark = path.length();
+                while (reader.hasNext()) {
+                    String key = reader.nextName();
+                    if (objectMark > 0) {
+                        path.append('.');
+                    }
+                    path.append(key);
+                    readValue(reader, path, depth + 1, sink);
+                    path.setLength(objectMark);
+                }
+                reader.endObject();
+                break;
+            case BEGIN_ARRAY:
+                if (depth >= maxDepth) {
+                    reader.skipValue();
+                    return;
+                }
+                reader.beginArray();
+                int arrayMark = path.length();
+                for (int index = 0; reader.hasNext(); index++) {
+                    if (maxArrayIndex > 0 && index >= maxArrayIndex) {
+                        reader.skipValue();
+                        continue;
+                    }
+                    path.append('[');
+                    if (!collapseArrayIndices) {
+                        path.append(index);
+                    }
+                    path.append(']');
+                    readValue(reader, path, depth + 1, sink);
+                    path.setLength(arrayMark);
+                }
+                reader.endArray();
+                break;
+            case STRING:
+            case NUMBER:
+                // Gson이 이미 만든 문자열이므로 짧은 반복 값만 정규 사본으로 바꿔 저장소에 한 벌만 남김
+                emit(path, StringDictionary.VALUES.intern(reader.nextString()), sink);
+                break;
+            case BOOLEAN:
+                emit(path, reader.nextBoolean() ? "true" : "false", sink);
+                break;
+            case NULL:
+                reader.nextNull();
+                break;
+            default:
+                reader.skipValue();
+                break;
+        }
+    }
+
+    private void emit(StringBuilder path, String value, ParameterSink sink) {
+        if (path.length() > 0) {
+            sink.accept(StringDictionary.NAMES.intern(path, 0, path.length()), value);
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package com.parameter.collector;
+
+import com.google.gson.Gson;
+
+import javax.swing.AbstractListModel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// JSON 탭 모델 (EDT 전용): 전체 JSON 문자열을 만들지 않고 화면에 보이는 줄만 그때그때 만든다
+// - 내용은 내보내기 JSON과 같은 [{"name": ..., "values": [...]}] 를 들여쓰기한 것 (한 줄 = 리스트 항목 하나)
+// - 파라미터별 엔트리 ID 목록은 저장소에 새로 추가된 범위 [indexedLimit, entryLimit)만 따라잡아 유지
+// - 줄 번호 -> (파라미터, 값 위치)는 파라미터별 시작 줄 배열에서 이진 탐색 (갱신 비용은 새 값 + 파라미터 수)
+// - 값이 삭제된 파라미터만 다음 갱신 때 목록을 다시 거른다
+// - 내보내기와 같이 이름이 필터 키워드를 포함하면 값이 하나도 맞지 않아도 "values": [] 로 보여준다
+//   (살아 있는 값이 하나도 없는 파라미터는 내보내기처럼 빠진다)
+@SuppressWarnings("serial")
+class JsonViewModel extends AbstractListModel<String> {
+    // 파라미터 하나가 값 줄 외에 차지하는 줄: {, "name", "values": [, ], }
+    private static final int GROUP_EXTRA_LINES = 5;
+    // 보여줄 값이 없는 파라미터의 줄: {, "name", "values": [], }
+    private static final int EMPTY_GROUP_LINES = 4;
+    private static final Gson GSON = new Gson();
+
+    private final ParameterStore store;
+    // 삭제 알림은 아무 스레드에서나 오므로 이름만 모아 두고 EDT에서 처리
+    private final Set<String> removedNames = ConcurrentHashMap.newKeySet();
+
+    private final Map<String, Group> groups = new HashMap<>();
+    private final List<Group> order = new ArrayList<>();
+    private int indexedLimit;
+    private String filterKeyword = "";
+
+    // 화면 배치 (값이 하나 이상인 파라미터만)
+    private Group[] visible = new Group[0];
+    private int[] lineStarts = new int[0];
+    private int lineCount = 1;
+    private int longestLine = 2;
+
+    private static final class Group {
+        private final String nameLine;
+        // 살아 있는 값 수 확인용 (필터와 무관)
+        private final ParameterStore.ValueSet values;
+        private int[] ids = new int[4];
+        private int size;
+
+        private Group(String name, ParameterStore.ValueSet values) {
+            this.nameLine = "    \"name\": " + GSON.toJson(name) + ",";
+            this.values = values;
+        }
+
+        private int lines() {
+            return size == 0 ? EMPTY_GROUP_LINES : size + GROUP_EXTRA_LINES;
+        }
+
+        private void append(int id) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = id;
+        }
+    }
+
+    JsonViewModel(ParameterStore store) {
+        this.store = store;
+        store.addRemovalListener((name, value) -> removedNames.add(name));
+    }
+
+    // 타이머/탭 전환 시 호출. 바뀐 것이 있으면 true
+    boolean refresh(String filterKeyword) {
+        boolean changed = false;
+        if (!filterKeyword.equals(this.filterKeyword)) {
+            this.filterKeyword = filterKeyword;
+            groups.clear();
+            order.clear();
+            removedNames.clear();
+            indexedLimit = 0;
+            changed = true;
+        }
+
+        if (!removedNames.isEmpty()) {
+            for (String name : removedNames.toArray(new String[0])) {
+                removedNames.remove(name);
+                Group group = groups.get(name);
+                if (group != null) {
+                    // 맞지 않는 값만 지워져도 파라미터가 사라질 수 있으므로 다시 배치
+                    compact(group);
+                    changed = true;
+                }
+            }
+        }
+
+        int limit = store.entryLimit();
+        for (int id = indexedLimit; id < limit; id++) {
+            String value = store.valueAt(id);
+            if (value == null) {
+                continue;
+            }
+            String name = store.nameAt(id);
+            if (!filterKeyword.isEmpty() && !name.contains(filterKeyword)) {
+                continue;
+            }
+            Group group = groups.get(name);
+            if (group == null) {
+                group = new Group(name, store.values(name));
+                groups.put(name, group);
+                order.add(group);
+                longestLine = Math.max(longestLine, group.nameLine.length());
+            }
+            // 값이 맞지 않아도 파라미터가 새로 보이게 될 수 있으므로 다시 배치
+            changed = true;
+            if (!filterKeyword.isEmpty() && !value.contains(filterKeyword)) {
+                continue;
+            }
+            group.append(id);
+            // 이스케이프로 조금 길어질 수 있으므로 여유를 둔다 (가로 스크롤 폭 계산용)
+            longestLine = Math.max(longestLine, value.length() + 12);
+        }
+        indexedLimit = limit;
+
+        if (changed) {
+            layout();
+        }
+        return changed;
+    }
+
+    // 삭제된 엔트리를 빼고 다시 채운다
+    private void compact(Group group) {
+        int kept = 0;
+        for (int i = 0; i < group.size; i++) {
+            if (store.isLive(group.ids[i])) {
+                group.ids[kept++] = group.ids[i];
+            }
+        }
+        group.size = kept;
+    }
+
+    private void layout() {
+        int previousCount = lineCount;
+        List<Group> shown = new ArrayList<>(order.size());
+        for (Group group : order) {
+            if (group.values.size() > 0) {
+                shown.add(group);
+            }
+        }
+        Group[] nextVisible = shown.toArray(new Group[0]);
+        int[] nextStarts = new int[nextVisible.length];
+        int line = 1;
+        for (int i = 0; i < nextVisible.length; i++) {
+            nextStarts[i] = line;
+            line += nextVisible[i].lines();
+        }
+        visible = nextVisible;
+        lineStarts = nextStarts;
+        lineCount = nextVisible.length == 0 ? 1 : line + 1;
+
+        if (lineCount > previousCount) {
+            fireIntervalAdded(this, previousCount, lineCount - 1);
+        } else if (lineCount < previousCount) {
+            fireIntervalRemoved(this, lineCount, previousCount - 1);
+        }
+        fireContentsChanged(this, 0, Math.min(previousCount, lineCount) - 1);
+    }
+
+    // 가장 긴 줄의 대략적인 글자 수 (고정 셀 폭 계산용)
+    int longestLine() {
+        return longestLine;
+    }
+
+    @Override
+    public int getSize() {
+        return lineCount;
+    }
+
+    @Override
+    public String getElementAt(int index) {
+        if (visible.length == 0) {
+            return "[]";
+        }
+        if (index == 0) {
+            return "[";
+        }
+        if (index == lineCount - 1) {
+            return "]";
+        }
+        int position = Arrays.binarySearch(lineStarts, index);
+        if (position < 0) {
+            position = -position - 2;
+        }
+        Group group = visible[position];
+        int offset = index - lineStarts[position];
+        if (offset == 0) {
+            return "  {";
+        }
+        if (offset == 1) {
+            return group.nameLine;
+        }
+        if (group.size == 0) {
+            if (offset == 2) {
+                return "    \"values\": []";
+            }
+            return position + 1 < visible.length ? "  }," : "  }";
+        }
+        if (offset == 2) {
+            return "    \"values\": [";
+        }
+        int valueIndex = offset - 3;
+        if (valueIndex < group.size) {
+            String value = store.valueAt(group.ids[valueIndex]);
+            return "      " + (value == null ? "null" : GSON.toJson(value))
+                + (valueIndex + 1 < group.size ? "," : "");
+        }
+        if (valueIndex == group.size) {
+            return "    ]";
+        }
+        return position + 1 < visible.length ? "  }," : "  }";
+    }
+}
@@ -0,0 +1,142 @@
+package com.parameter.collector;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+// 여러 키워드를 한 번에 찾는 Aho-Corasick 오토마톤 (대소문자 무시, 불변)
+// - ASCII 문자는 상태 x 128 전이표로 한 번에 이동
+// - 그 외 문자는 트라이 간선 + 실패 링크로 이동
+// - matches()는 이름을 한 번만 훑고 객체를 만들지 않는다
+final class KeywordMatcher {
+    private static final int ASCII = 128;
+
+    private final int[] asciiNext;
+    private final char[][] otherKeys;
+    private final int[][] otherTargets;
+    private final int[] fail;
+    private final boolean[] output;
+
+    private KeywordMatcher(int[] asciiNext, char[][] otherKeys, int[][] otherTargets, int[] fail, boolean[] output) {
+        this.asciiNext = asciiNext;
+        this.otherKeys = otherKeys;
+        this.otherTargets = otherTargets;
+        this.fail = fail;
+        this.output = output;
+    }
+
+    static KeywordMatcher compile(Collection<String> keywords) {
+        // 트라이 구성
+        List<TreeMap<Character, Integer>> children = new ArrayList<>();
+        List<Boolean> terminal = new ArrayList<>();
+        children.add(new TreeMap<>());
+        terminal.add(false);
+        for (String keyword : keywords) {
+            if (keyword == null || keyword.isEmpty()) {
+                continue;
+            }
+            int state = 0;
+            for (int i = 0; i < keyword.length(); i++) {
+                char c = Character.toLowerCase(keyword.charAt(i));
+                Integer next = children.get(state).get(c);
+                if (next == null) {
+                    next = children.size();
+                    children.add(new TreeMap<>());
+                    terminal.add(false);
+                    children.get(state).put(c, next);
+                }
+                state = next;
+            }
+            terminal.set(state, true);
+        }
+
+        int states = children.size();
+        int[] fail = new int[states];
+        boolean[] output = new boolean[states];
+        int[] asciiNext = new int[states * ASCII];
+        char[][] otherKeys = new char[states][];
+        int[][] otherTargets = new int[states][];
+
+        // BFS 순서로 실패 링크와 ASCII 전이표 계산
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        queue.add(0);
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            output[state] = terminal.get(state) || (state != 0 && output[fail[state]]);
+
+            List<Character> others = new ArrayList<>();
+            for (Map.Entry<Character, Integer> edge : children.get(state).entrySet()) {
+                char c = edge.getKey();
+                int child = edge.getValue();
+                fail[child] = state == 0 ? 0 : step(children, fail, fail[state], c);
+                queue.add(child);
+                if (c >= ASCII) {
+                    others.add(c);
+                }
+            }
+            for (int c = 0; c < ASCII; c++) {
+                Integer child = children.get(state).get((char) c);
+                asciiNext[state * ASCII + c] = child != null ? child
+                    : state == 0 ? 0 : asciiNext[fail[state] * ASCII + c];
+            }
+            otherKeys[state] = new char[others.size()];
+            otherTargets[state] = new int[others.size()];
+            for (int i = 0; i < others.size(); i++) {
+                otherKeys[state][i] = others.get(i);
+                otherTargets[state][i] = children.get(state).get(others.get(i));
+            }
+        }
+        return new KeywordMatcher(asciiNext, otherKeys, otherTargets, fail, output);
+    }
+
+    // 실패 링크 계산용 전이 (트라이 간선이 없으면 실패 링크를 따라감)
+    private static int step(List<TreeMap<Character, Integer>> children, int[] fail, int state, char c) {
+        while (true) {
+            Integer next = children.get(state).get(c);
+            if (next != null) {
+                return next;
+            }
+            if (state == 0) {
+                return 0;
+            }
+            state = fail[state];
+        }
+    }
+
+    // 키워드 중 하나라도 부분 문자열로 포함하면 true
+    boolean matches(CharSequence text) {
+        if (output.length == 1) {
+            return false;
+        }
+        int state = 0;
+        for (int i = 0, length = text.length(); i < length; i++) {
+            char c = Character.toLowerCase(text.charAt(i));
+            if (c < ASCII) {
+                state = asciiNext[state * ASCII + c];
+            } else {
+                state = nextOther(state, c);
+            }
+            if (output[state]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int nextOther(int state, char c) {
+        while (true) {
+            int index = Arrays.binarySearch(otherKeys[state], c);
+            if (index >= 0) {
+                return otherTargets[state][index];
+            }
+            if (state == 0) {
+                return 0;
+            }
+            state = fail[state];
+        }
+    }
+}
@@ -0,0 +1,494 @@
+package com.parameter.collector;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+
+// 메모리 매핑 파일 기반 파라미터 저장소 (대용량 진단용)
+// - 파라미터명은 힙의 사전(이름 -> 번호)에 한 번만 보관
+// - 값은 UTF-8 바이트로 추가 전용 세그먼트(values.bin)에, 엔트리 레코드는 entries.bin에 고정 크기로 기록
+// - 중복 체크용 해시 인덱스도 매핑 파일(index-N.bin)의 오픈 어드레싱 테이블이라 힙에는 이름별 작은 핸들만 남는다
+// - 엔트리 레코드: 값 위치(8) | 이름 번호(4) | 값 길이(4, 삭제 시 ~길이) | 같은 이름의 다음 엔트리(4) | 해시(4) | 발견 위치(4) | 예비(4)
+final class MappedParameterStore implements ParameterStore {
+    private static final int SEGMENT_BITS = 26;
+    private static final int SEGMENT_SIZE = 1 << SEGMENT_BITS;
+    private static final int SEGMENT_MASK = SEGMENT_SIZE - 1;
+
+    private static final int ENTRY_BYTES = 32;
+    private static final int ENTRY_CHUNK_BITS = 16;
+    private static final int ENTRY_CHUNK_SIZE = 1 << ENTRY_CHUNK_BITS;
+    private static final int ENTRY_CHUNK_MASK = ENTRY_CHUNK_SIZE - 1;
+    private static final int VALUE_OFFSET = 0;
+    private static final int NAME_ID = 8;
+    private static final int VALUE_LENGTH = 12;
+    private static final int NEXT_ID = 16;
+    private static final int HASH = 20;
+    private static final int CONTEXT = 24;
+
+    // 인덱스 슬롯: 0 = 빈 칸, -1 = 삭제 표시, 그 외 = 엔트리 ID + 1
+    private static final int INITIAL_INDEX_CAPACITY = 1 << 16;
+    private static final int MAX_INDEX_CAPACITY = 1 << 28;
+    private static final int EMPTY = 0;
+    private static final int TOMBSTONE = -1;
+
+    private final Path directory;
+    private final FileChannel valueChannel;
+    private final FileChannel entryChannel;
+
+    // 이름 사전 (삽입 순서)
+    private final ConcurrentHashMap<String, NameSlot> names = new ConcurrentHashMap<>();
+    private volatile NameSlot[] nameOrder = new NameSlot[16];
+    private volatile int nameCount;
+
+    private volatile MappedByteBuffer[] valueSegments = new MappedByteBuffer[4];
+    private int valueSegmentCount;
+    private int valueWritePosition = SEGMENT_SIZE;
+
+    private volatile MappedByteBuffer[] entryChunks = new MappedByteBuffer[16];
+    private volatile int entryCount;
+    private volatile int liveCount;
+
+    // 쓰기 락 안에서만 사용
+    private FileChannel indexChannel;
+    private Path indexFile;
+    private MappedByteBuffer index;
+    private int indexMask;
+    private int indexLive;
+    private int indexTombstones;
+    private int indexGeneration;
+
+    private final List<BiConsumer<String, String>> removalListeners = new CopyOnWriteArrayList<>();
+
+    MappedParameterStore(Path directory) throws IOException {
+        this.directory = directory;
+        this.valueChannel = open(directory.resolve("values.bin"));
+        this.entryChannel = open(directory.resolve("entries.bin"));
+        createIndex(INITIAL_INDEX_CAPACITY);
+    }
+
+    @Override
+    public int add(String name, String value, int context) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > SEGMENT_SIZE) {
+            throw new IllegalArgumentException("값이 너무 큽니다: " + bytes.length + " bytes");
+        }
+        synchronized (this) {
+            NameSlot slot = names.get(name);
+            if (slot == null) {
+                slot = appendName(name);
+            }
+            int hash = hash(slot.id, bytes);
+            if (findSlot(slot.id, hash, bytes) >= 0) {
+                return -1;
+            }
+            if ((indexLive + indexTombstones + 1) * 2L > indexMask + 1L) {
+                rehash();
+            }
+
+            int id = entryCount;
+            long valueOffset = appendValue(bytes);
+            MappedByteBuffer chunk = entryChunk(id);
+            int record = (id & ENTRY_CHUNK_MASK) * ENTRY_BYTES;
+            chunk.putLong(record + VALUE_OFFSET, valueOffset);
+            chunk.putInt(record + NAME_ID, slot.id);
+            chunk.putInt(record + VALUE_LENGTH, bytes.length);
+            chunk.putInt(record + NEXT_ID, -1);
+            chunk.putInt(record + HASH, hash);
+            chunk.putInt(record + CONTEXT, context);
+
+            // 같은 이름의 엔트리 연결 (삽입 순서 순회용)
+            if (slot.last >= 0) {
+                entryChunks[slot.last >>> ENTRY_CHUNK_BITS]
+                    .putInt((slot.last & ENTRY_CHUNK_MASK) * ENTRY_BYTES + NEXT_ID, id);
+            } else {
+                slot.first = id;
+            }
+            slot.last = id;
+            slot.liveCount++;
+
+            insertIndex(hash, id);
+            liveCount++;
+            entryCount = id + 1;
+            return id;
+        }
+    }
+
+    @Override
+    public boolean remove(String name, String value) {
+        NameSlot slot = names.get(name);
+        if (slot == null) {
+            return false;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        synchronized (this) {
+            int position = findSlot(slot.id, hash(slot.id, bytes), bytes);
+            if (position < 0) {
+                return false;
+            }
+            int id = index.getInt(position * 4) - 1;
+            index.putInt(position * 4, TOMBSTONE);
+            indexLive--;
+            indexTombstones++;
+            MappedByteBuffer chunk = entryChunks[id >>> ENTRY_CHUNK_BITS];
+            int record = (id & ENTRY_CHUNK_MASK) * ENTRY_BYTES;
+            chunk.putInt(record + VALUE_LENGTH, ~chunk.getInt(record + VALUE_LENGTH));
+            slot.liveCount--;
+            liveCount--;
+        }
+        for (BiConsumer<String, String> listener : removalListeners) {
+            listener.accept(name, value);
+        }
+        return true;
+    }
+
+    @Override
+    public void addRemovalListener(BiConsumer<String, String> listener) {
+        removalListeners.add(listener);
+    }
+
+    @Override
+    public int find(String name, String value) {
+        NameSlot slot = names.get(name);
+        if (slot == null) {
+            return -1;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        synchronized (this) {
+            int position = findSlot(slot.id, hash(slot.id, bytes), bytes);
+            return position < 0 ? -1 : index.getInt(position * 4) - 1;
+        }
+    }
+
+    @Override
+    public int entryLimit() {
+        return entryCount;
+    }
+
+    @Override
+    public String nameAt(int id) {
+        MappedByteBuffer chunk = entryChunks[id >>> ENTRY_CHUNK_BITS];
+        return nameOrder[chunk.getInt((id & ENTRY_CHUNK_MASK) * ENTRY_BYTES + NAME_ID)].name;
+    }
+
+    @Override
+    public String valueAt(int id) {
+        MappedByteBuffer chunk = entryChunks[id >>> ENTRY_CHUNK_BITS];
+        int record = (id & ENTRY_CHUNK_MASK) * ENTRY_BYTES;
+        int length = chunk.getInt(record + VALUE_LENGTH);
+        if (length < 0) {
+            return null;
+        }
+        long offset = chunk.getLong(record + VALUE_OFFSET);
+        byte[] bytes = new byte[length];
+        valueSegments[(int) (offset >>> SEGMENT_BITS)].get((int) (offset & SEGMENT_MASK), bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public boolean isLive(int id) {
+        return entryChunks[id >>> ENTRY_CHUNK_BITS].getInt((id & ENTRY_CHUNK_MASK) * ENTRY_BYTES + VALUE_LENGTH) >= 0;
+    }
+
+    @Override
+    public int contextAt(int id) {
+        return entryChunks[id >>> ENTRY_CHUNK_BITS].getInt((id & ENTRY_CHUNK_MASK) * ENTRY_BYTES + CONTEXT);
+    }
+
+    @Override
+    public int size() {
+        return liveCount;
+    }
+
+    @Override
+    public int parameterCount() {
+        int count = 0;
+        for (NameSlot slot : names.values()) {
+            if (slot.size() > 0) count++;
+        }
+        return count;
+    }
+
+    @Override
+    public ValueSet values(String name) {
+        return names.get(name);
+    }
+
+    @Override
+    public Iterable<ValueSet> parameters() {
+        int limit = nameCount;
+        NameSlot[] order = nameOrder;
+        return () -> new Iterator<>() {
+            private int next = advance(0);
+
+            private int advance(int from) {
+                while (from < limit && order[from].size() == 0) from++;
+                return from;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return next < limit;
+            }
+
+            @Override
+            public ValueSet next() {
+                if (next >= limit) throw new NoSuchElementException();
+                NameSlot slot = order[next];
+                next = advance(next + 1);
+                return slot;
+            }
+        };
+    }
+
+    // 파일 닫고 저장 폴더 삭제 (매핑은 GC 시 해제)
+    @Override
+    public synchronized void close() {
+        try {
+            valueChannel.close();
+            entryChannel.close();
+            indexChannel.close();
+        } catch (IOException ignored) {
+        }
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        } catch (IOException ignored) {
+        }
+    }
+
+    private NameSlot appendName(String name) {
+        NameSlot[] order = nameOrder;
+        if (nameCount == order.length) {
+            order = Arrays.copyOf(order, order.length * 2);
+            nameOrder = order;
+        }
+        NameSlot slot = new NameSlot(name, nameCount);
+        order[nameCount] = slot;
+        nameCount = nameCount + 1;
+        names.put(name, slot);
+        return slot;
+    }
+
+    private long appendValue(byte[] bytes) {
+        if (valueWritePosition + bytes.length > SEGMENT_SIZE) {
+            if (valueSegmentCount == valueSegments.length) {
+                valueSegments = Arrays.copyOf(valueSegments, valueSegmentCount * 2);
+            }
+            valueSegments[valueSegmentCount] = map(valueChannel, (long) valueSegmentCount * SEGMENT_SIZE, SEGMENT_SIZE);
+            valueSegmentCount++;
+            valueWritePosition = 0;
+        }
+        int segment = valueSegmentCount - 1;
+        valueSegments[segment].put(valueWritePosition, bytes);
+        long offset = ((long) segment << SEGMENT_BITS) | valueWritePosition;
+        valueWritePosition += bytes.length;
+        return offset;
+    }
+
+    private MappedByteBuffer entryChunk(int id) {
+        int chunk = id >>> ENTRY_CHUNK_BITS;
+        MappedByteBuffer[] chunks = entryChunks;
+        if (chunk == chunks.length) {
+            chunks = Arrays.copyOf(chunks, chunks.length * 2);
+            entryChunks = chunks;
+        }
+        if (chunks[chunk] == null) {
+            long chunkBytes = (long) ENTRY_CHUNK_SIZE * ENTRY_BYTES;
+            chunks[chunk] = map(entryChannel, chunk * chunkBytes, chunkBytes);
+        }
+        return chunks[chunk];
+    }
+
+    // 인덱스에서 (이름, 값) 슬롯 위치, 없으면 -1
+    private int findSlot(int nameId, int hash, byte[] bytes) {
+        int position = hash & indexMask;
+        while (true) {
+            int stored = index.getInt(position * 4);
+            if (stored == EMPTY) {
+                return -1;
+            }
+            if (stored != TOMBSTONE && matches(stored - 1, nameId, hash, bytes)) {
+                return position;
+            }
+            position = (position + 1) & indexMask;
+        }
+    }
+
+    private void insertIndex(int hash, int id) {
+        int position = hash & indexMask;
+        while (true) {
+            int stored = index.getInt(position * 4);
+            if (stored == EMPTY || stored == TOMBSTONE) {
+                if (stored == TOMBSTONE) indexTombstones--;
+                index.putInt(position * 4, id + 1);
+                indexLive++;
+                return;
+            }
+            position = (position + 1) & indexMask;
+        }
+    }
+
+    private boolean matches(int id, int nameId, int hash, byte[] bytes) {
+        MappedByteBuffer chunk = entryChunks[id >>> ENTRY_CHUNK_BITS];
+        int record = (id & ENTRY_CHUNK_MASK) * ENTRY_BYTES;
+        if (chunk.getInt(record + HASH) != hash
+            || chunk.getInt(record + NAME_ID) != nameId
+            || chunk.getInt(record + VALUE_LENGTH) != bytes.length) {
+            return false;
+        }
+        long offset = chunk.getLong(record + VALUE_OFFSET);
+        MappedByteBuffer segment = valueSegments[(int) (offset >>> SEGMENT_BITS)];
+        int start = (int) (offset & SEGMENT_MASK);
+        for (int i = 0; i < bytes.length; i++) {
+            if (segment.get(start + i) != bytes[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 살아 있는 값 기준으로 새 인덱스 파일을 만들어 다시 채움 (삭제 표시 정리 포함)
+    private void rehash() {
+        MappedByteBuffer oldIndex = index;
+        FileChannel oldChannel = indexChannel;
+        Path oldFile = indexFile;
+        int oldCapacity = indexMask + 1;
+
+        int capacity = INITIAL_INDEX_CAPACITY;
+        while (capacity < MAX_INDEX_CAPACITY && (indexLive + 1) * 4L > capacity) {
+            capacity <<= 1;
+        }
+        if ((indexLive + 1) * 2L > capacity) {
+            throw new IllegalStateException("저장 가능한 값 개수를 초과했습니다: " + indexLive);
+        }
+        try {
+            createIndex(capacity);
+        } catch (IOException e) {
+            throw new IllegalStateException("인덱스 파일 생성 실패: " + e.getMessage(), e);
+        }
+        for (int position = 0; position < oldCapacity; position++) {
+            int stored = oldIndex.getInt(position * 4);
+            if (stored != EMPTY && stored != TOMBSTONE) {
+                int id = stored - 1;
+                int hash = entryChunks[id >>> ENTRY_CHUNK_BITS].getInt((id & ENTRY_CHUNK_MASK) * ENTRY_BYTES + HASH);
+                insertIndex(hash, id);
+            }
+        }
+        try {
+            oldChannel.close();
+            Files.deleteIfExists(oldFile);
+        } catch (IOException ignored) {
+            // 매핑이 남아 삭제되지 않으면 close()에서 정리
+        }
+    }
+
+    private void createIndex(int capacity) throws IOException {
+        indexFile = directory.resolve("index-" + (indexGeneration++) + ".bin");
+        indexChannel = open(indexFile);
+        index = indexChannel.map(FileChannel.MapMode.READ_WRITE, 0, capacity * 4L);
+        indexMask = capacity - 1;
+        indexLive = 0;
+        indexTombstones = 0;
+    }
+
+    private static FileChannel open(Path file) throws IOException {
+        return FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+            StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    private static MappedByteBuffer map(FileChannel channel, long position, long size) {
+        try {
+            return channel.map(FileChannel.MapMode.READ_WRITE, position, size);
+        } catch (IOException e) {
+            throw new IllegalStateException("저장소 파일 매핑 실패: " + e.getMessage(), e);
+        }
+    }
+
+    private static int hash(int nameId, byte[] bytes) {
+        int h = nameId * 0x9E3779B9;
+        for (byte b : bytes) {
+            h = 31 * h + b;
+        }
+        // 하위 비트 분산 (인덱스 위치는 하위 비트만 사용)
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        return h;
+    }
+
+    // 이름 사전 항목. 같은 이름의 엔트리는 레코드의 NEXT_ID로 연결
+    private final class NameSlot implements ValueSet {
+        private final String name;
+        private final int id;
+        private volatile int first = -1;
+        private volatile int last = -1;
+        private volatile int liveCount;
+
+        private NameSlot(String name, int id) {
+            this.name = name;
+            this.id = id;
+        }
+
+        @Override
+        public String name() {
+            return name;
+        }
+
+        @Override
+        public int size() {
+            return liveCount;
+        }
+
+        @Override
+        public boolean contains(String value) {
+            return find(name, value) >= 0;
+        }
+
+        // 삽입 순서대로 순회 (호출 시점 스냅샷, 삭제된 값은 건너뜀)
+        @Override
+        public Iterator<String> iterator() {
+            int limit = entryCount;
+            int start = first;
+            return new Iterator<>() {
+                private int position = start;
+                private String next = advance();
+
+                private String advance() {
+                    while (position >= 0 && position < limit) {
+                        int id = position;
+                        position = entryChunks[id >>> ENTRY_CHUNK_BITS]
+                            .getInt((id & ENTRY_CHUNK_MASK) * ENTRY_BYTES + NEXT_ID);
+                        String value = valueAt(id);
+                        if (value != null) return value;
+                    }
+                    return null;
+                }
+
+                @Override
+                public boolean hasNext() {
+                    return next != null;
+                }
+
+                @Override
+                public String next() {
+                    if (next == null) throw new NoSuchElementException();
+                    String value = next;
+                    next = advance();
+                    return value;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.parameter.collector;
+
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 파싱한 Content-Type 헤더 값
+// - essence: "type/subtype" 소문자 (파라미터 제외), suffix: 구조화 접미사 ("+json" -> "json", 없으면 "")
+// - raw: 원래 헤더 값 (multipart boundary처럼 대소문자를 보존해야 하는 파라미터용)
+// 같은 헤더 값은 계속 반복되므로 파싱 결과를 헤더 문자열 그대로 캐시한다 (소문자 변환은 값마다 한 번)
+record MediaType(String essence, String suffix, String raw) {
+    static final MediaType NONE = new MediaType("", "", "");
+
+    // boundary가 요청마다 달라지는 multipart 등으로 캐시가 끝없이 커지지 않도록 개수 제한
+    private static final int CACHE_LIMIT = 1024;
+    private static final ConcurrentHashMap<String, MediaType> CACHE = new ConcurrentHashMap<>();
+
+    private static final Set<String> BINARY_TYPE_PREFIXES = Set.of(
+        "image/", "audio/", "video/", "font/"
+    );
+    private static final Set<String> BINARY_TYPES = Set.of(
+        "application/octet-stream", "application/pdf", "application/zip",
+        "application/x-tar", "application/gzip", "application/x-rar-compressed"
+    );
+
+    static MediaType parse(String contentType) {
+        if (contentType == null || contentType.isEmpty()) {
+            return NONE;
+        }
+        MediaType cached = CACHE.get(contentType);
+        if (cached != null) {
+            return cached;
+        }
+        MediaType parsed = doParse(contentType);
+        if (CACHE.size() < CACHE_LIMIT) {
+            CACHE.putIfAbsent(contentType, parsed);
+        }
+        return parsed;
+    }
+
+    private static MediaType doParse(String contentType) {
+        int semicolon = contentType.indexOf(';');
+        String essence = (semicolon < 0 ? contentType : contentType.substring(0, semicolon))
+            .trim().toLowerCase(Locale.ROOT);
+        int plus = essence.lastIndexOf('+');
+        String suffix = plus >= 0 && plus > essence.indexOf('/') ? essence.substring(plus + 1) : "";
+        return new MediaType(essence, suffix, contentType);
+    }
+
+    boolean isEmpty() {
+        return essence.isEmpty();
+    }
+
+    boolean isBinary() {
+        if (essence.isEmpty()) {
+            return false;
+        }
+        // 접두사 기반 체크 (image/*, audio/*, video/*, font/*)
+        for (String prefix : BINARY_TYPE_PREFIXES) {
+            if (essence.startsWith(prefix)) {
+                return true;
+            }
+        }
+        // 특정 바이너리 타입 체크
+        return BINARY_TYPES.contains(essence);
+    }
+
+    boolean isHtml() {
+        return essence.equals("text/html") || essence.equals("application/xhtml+xml");
+    }
+
+    // application/json, text/json, application/*+json
+    boolean isJson() {
+        return essence.endsWith("/json") || suffix.equals("json");
+    }
+}
@@ -0,0 +1,197 @@
+package com.parameter.collector;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Predicate;
+
+// 바이트 단위 multipart/form-data 스캐너
+// - 경계 문자열은 Boyer-Moore-Horspool로 탐색하므로 파일 본문은 대부분 건너뛰며 복사하지 않음
+// - 파트 헤더(최대 MAX_HEADER_BYTES)와 작은 텍스트 필드(최대 MAX_FIELD_BYTES)만 문자열로 만든다
+final class MultipartScanner {
+    static final int MAX_HEADER_BYTES = 8 * 1024;
+    static final int MAX_FIELD_BYTES = 64 * 1024;
+
+    private final byte[] delimiter;
+    private final int[] shift = new int[256];
+
+    MultipartScanner(String boundary) {
+        this.delimiter = ("--" + boundary).getBytes(StandardCharsets.ISO_8859_1);
+        int last = delimiter.length - 1;
+        for (int i = 0; i < shift.length; i++) {
+            shift[i] = delimiter.length;
+        }
+        for (int i = 0; i < last; i++) {
+            shift[delimiter[i] & 0xFF] = last - i;
+        }
+    }
+
+    // Content-Type 헤더에서 boundary 값 추출 (대소문자 보존), 없으면 null
+    static String boundaryOf(String contentType) {
+        int length = contentType.length();
+        int index = 0;
+        while (index < length) {
+            int found = indexOfIgnoreCase(contentType, "boundary=", index);
+            if (found < 0) {
+                return null;
+            }
+            // 다른 파라미터 이름의 일부가 아닌지 확인
+            if (found == 0 || contentType.charAt(found - 1) == ';' || Character.isWhitespace(contentType.charAt(found - 1))) {
+                int start = found + "boundary=".length();
+                String boundary;
+                if (start < length && contentType.charAt(start) == '"') {
+                    // 따옴표로 감싼 값은 공백을 포함할 수 있음
+                    int close = contentType.indexOf('"', start + 1);
+                    boundary = contentType.substring(start + 1, close < 0 ? length : close);
+                } else {
+                    int end = start;
+                    while (end < length && contentType.charAt(end) != ';' && !Character.isWhitespace(contentType.charAt(end))) {
+                        end++;
+                    }
+                    boundary = contentType.substring(start, end);
+                }
+                return boundary.isEmpty() ? null : boundary;
+            }
+            index = found + 1;
+        }
+        return null;
+    }
+
+    void scan(ByteSource body, Predicate<String> isBinaryContentType, ParameterSink sink) {
+        int length = body.length();
+        int position = indexOfDelimiter(body, 0);
+        while (position >= 0) {
+            int afterDelimiter = position + delimiter.length;
+            // 종료 경계 "--boundary--"
+            if (afterDelimiter + 1 < length && body.byteAt(afterDelimiter) == '-' && body.byteAt(afterDelimiter + 1) == '-') {
+                return;
+            }
+            int headerStart = skipLineBreak(body, afterDelimiter);
+            int next = indexOfDelimiter(body, headerStart);
+            int partEnd = next < 0 ? length : trimLineBreakBefore(body, next, headerStart);
+            parsePart(body, headerStart, partEnd, isBinaryContentType, sink);
+            position = next;
+        }
+    }
+
+    private void parsePart(ByteSource body, int start, int end, Predicate<String> isBinaryContentType, ParameterSink sink) {
+        int headerLimit = Math.min(end, start + MAX_HEADER_BYTES);
+        int headerEnd = -1;
+        int contentStart = -1;
+        for (int i = start; i < headerLimit; i++) {
+            if (body.byteAt(i) != '\n') {
+                continue;
+            }
+            if (i + 1 < end && body.byteAt(i + 1) == '\n') {
+                headerEnd = i;
+                contentStart = i + 2;
+                break;
+            }
+            if (i + 2 < end && body.byteAt(i + 1) == '\r' && body.byteAt(i + 2) == '\n') {
+                headerEnd = i;
+                contentStart = i + 3;
+                break;
+            }
+        }
+        if (headerEnd < 0) {
+            return;
+        }
+
+        String name = null;
+        String filename = null;
+        String partContentType = null;
+        for (String line : body.latin1(start, headerEnd).split("\n")) {
+            int colon = line.indexOf(':');
+            if (colon < 0) {
+                continue;
+            }
+            String headerName = line.substring(0, colon).trim();
+            String headerValue = line.substring(colon + 1).trim();
+            if (headerName.equalsIgnoreCase("Content-Disposition")) {
+                name = dispositionParameter(headerValue, "name");
+                filename = dispositionParameter(headerValue, "filename");
+            } else if (headerName.equalsIgnoreCase("Content-Type")) {
+                partContentType = headerValue;
+            }
+        }
+        if (name == null || name.isEmpty()) {
+            return;
+        }
+
+        if (filename != null && !filename.isEmpty()) {
+            // 파일 업로드: 파일명만 기록, 본문은 읽지 않음
+            sink.accept(name, "[FILE: " + filename + "]");
+        } else if (partContentType == null || !isBinaryContentType.test(partContentType)) {
+            int valueEnd = Math.min(end, contentStart + MAX_FIELD_BYTES);
+            sink.accept(name, body.latin1(contentStart, valueEnd).trim());
+        }
+    }
+
+    // form-data; name="a"; filename="b.txt" 에서 파라미터 값 추출
+    private static String dispositionParameter(String disposition, String parameter) {
+        int index = 0;
+        while (true) {
+            int semicolon = disposition.indexOf(';', index);
+            if (semicolon < 0) {
+                return null;
+            }
+            int start = semicolon + 1;
+            while (start < disposition.length() && disposition.charAt(start) == ' ') start++;
+            int equals = disposition.indexOf('=', start);
+            if (equals < 0) {
+                return null;
+            }
+            if (disposition.substring(start, equals).trim().equalsIgnoreCase(parameter)) {
+                int valueStart = equals + 1;
+                if (valueStart < disposition.length() && disposition.charAt(valueStart) == '"') {
+                    int close = disposition.indexOf('"', valueStart + 1);
+                    return disposition.substring(valueStart + 1, close < 0 ? disposition.length() : close);
+                }
+                int valueEnd = disposition.indexOf(';', valueStart);
+                return disposition.substring(valueStart, valueEnd < 0 ? disposition.length() : valueEnd).trim();
+            }
+            index = equals;
+        }
+    }
+
+    // Boyer-Moore-Horspool
+    private int indexOfDelimiter(ByteSource body, int from) {
+        int last = delimiter.length - 1;
+        int limit = body.length() - delimiter.length;
+        int position = from;
+        while (position <= limit) {
+            int i = last;
+            while (i >= 0 && body.byteAt(position + i) == delimiter[i]) {
+                i--;
+            }
+            if (i < 0) {
+                return position;
+            }
+            position += shift[body.byteAt(position + last) & 0xFF];
+        }
+        return -1;
+    }
+
+    private static int skipLineBreak(ByteSource body, int position) {
+        int length = body.length();
+        // 경계 뒤 공백(transport padding) 허용
+        while (position < length && (body.byteAt(position) == ' ' || body.byteAt(position) == '\t')) position++;
+        if (position < length && body.byteAt(position) == '\r') position++;
+        if (position < length && body.byteAt(position) == '\n') position++;
+        return position;
+    }
+
+    private static int trimLineBreakBefore(ByteSource body, int delimiterStart, int floor) {
+        int end = delimiterStart;
+        if (end > floor && body.byteAt(end - 1) == '\n') end--;
+        if (end > floor && body.byteAt(end - 1) == '\r') end--;
+        return end;
+    }
+
+    private static int indexOfIgnoreCase(String text, String search, int from) {
+        for (int i = from; i + search.length() <= text.length(); i++) {
+            if (text.regionMatches(true, i, search, 0, search.length())) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -2,10 +2,14 @@ package com.parameter.collector;
 
 import burp.api.montoya.BurpExtension;
 import burp.api.montoya.MontoyaApi;
+import burp.api.montoya.core.ToolType;
 import burp.api.montoya.http.handler.HttpRequestToBeSent;
 import burp.api.montoya.http.handler.HttpResponseReceived;
 import burp.api.montoya.http.handler.RequestToBeSentAction;
 import burp.api.montoya.http.handler.ResponseReceivedAction;
+import burp.api.montoya.http.message.HttpHeader;
+import burp.api.montoya.http.message.params.ParsedHttpParameter;
+import burp.api.montoya.http.message.requests.HttpRequest;
 import burp.api.montoya.ui.menu.Menu;
 import burp.api.montoya.ui.menu.MenuItem;
 import burp.api.montoya.ui.menu.BasicMenuItem;
@@ -13,101 +17,190 @@ import burp.api.montoya.ui.menu.MenuBar;
 import burp.api.montoya.ui.editor.RawEditor;
 import burp.api.montoya.ui.editor.EditorOptions;
 import burp.api.montoya.core.ByteArray;
-import com.google.gson.JsonArray;
+import burp.api.montoya.persistence.Preferences;
 import com.google.gson.JsonObject;
-import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
-import com.google.gson.JsonParser;
-import com.google.gson.JsonElement;
 
 import javax.swing.*;
-import javax.swing.table.DefaultTableModel;
 import java.awt.*;
 import java.awt.datatransfer.StringSelection;
 import java.awt.datatransfer.Transferable;
 import java.awt.event.ActionEvent;
 import javax.swing.TransferHandler;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
+import java.util.EnumMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
 import javax.swing.SwingUtilities;
 import javax.swing.event.DocumentEvent;
 import javax.swing.event.DocumentListener;
+import javax.swing.event.PopupMenuEvent;
+import javax.swing.event.PopupMenuListener;
 import java.awt.Toolkit;
 import javax.swing.JPopupMenu;
 import javax.swing.JMenuItem;
 import java.io.File;
-import java.io.FileReader;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.file.Path;
 import javax.swing.JFileChooser;
 import javax.swing.filechooser.FileNameExtensionFilter;
 
 public class ParameterCollector implements BurpExtension {
     private MontoyaApi api;
-    private ConcurrentHashMap<String, CopyOnWriteArrayList<String>> parameterValues;
+    private ParameterStore parameterStore;
     private RawEditor paramEditor;
     private JTabbedPane resultTabs;
-    private JTextArea jsonArea;
+    private JList<String> jsonList;
+    private JsonViewModel jsonViewModel;
     private JTable paramTable;
+    private ParameterTableModel paramTableModel;
     private JTextField searchField;
 
     // 옵션: 인스턴스 변수로 변경
-    private int maxParamNameLength = 30;
-    private int maxParamValueLength = 100;
+    private int maxParamNameLength = ExtractionSettings.DEFAULT_MAX_NAME_LENGTH;
+    private int maxParamValueLength = ExtractionSettings.DEFAULT_MAX_VALUE_LENGTH;
     private String filterKeyword = "";
+
+    // JSON 추출 설정 (설정 변경 시 새 추출기로 교체)
+    private JsonStreamExtractor jsonExtractor = new JsonStreamExtractor(
+        ExtractionSettings.DEFAULT_JSON_MAX_DEPTH, ExtractionSettings.DEFAULT_JSON_MAX_ARRAY_INDEX,
+        ExtractionSettings.DEFAULT_JSON_COLLAPSE_ARRAY_INDICES);
     
     // 자동 내보내기 설정
     private boolean autoExportEnabled = false;
     private String autoExportPath = "";
-    private final Object autoExportLock = new Object();
+    private AutoExporter autoExporter;
+
+    // 영구 저장(저널) 설정 - Burp 환경설정에 보관
+    private static final String PREF_JOURNAL_ENABLED = "parameterCollector.journal.enabled";
+    private static final String PREF_JOURNAL_DIRECTORY = "parameterCollector.journal.directory";
+    private static final String PREF_JOURNAL_COMPACTION = "parameterCollector.journal.compactionThreshold";
+    private static final int DEFAULT_JOURNAL_COMPACTION_THRESHOLD = 200_000;
+    private boolean journalEnabled = false;
+    private String journalDirectory = "";
+    private int journalCompactionThreshold = DEFAULT_JOURNAL_COMPACTION_THRESHOLD;
+    private volatile ParameterJournal journal;
+
+    // 값 저장 방식 - 확장을 다시 로드할 때 적용
+    private static final String PREF_STORE_BACKEND = "parameterCollector.store.backend";
+    private static final String PREF_STORE_DIRECTORY = "parameterCollector.store.directory";
+    private ParameterStore.Backend storeBackend = ParameterStore.Backend.HEAP;
+    private String storeDirectory = "";
 
     // 민감 파라미터 필터링 설정
-    private static final Set<String> DEFAULT_SENSITIVE_KEYWORDS = Set.of(
-        "password", "pass", "passwd", "pwd", "secret", "token",
-        "key", "credential", "auth", "api_key", "apikey",
-        "access_token", "refresh_token", "private_key"
-    );
-    private Set<String> sensitiveKeywords = new HashSet<>(DEFAULT_SENSITIVE_KEYWORDS);
+    private Set<String> sensitiveKeywords = new HashSet<>(ExtractionSettings.DEFAULT_SENSITIVE_KEYWORDS);
     private boolean enableSensitiveFilter = true;
 
-    // 바이너리 Content-Type 목록
-    private static final Set<String> BINARY_CONTENT_TYPE_PREFIXES = Set.of(
-        "image/", "audio/", "video/", "font/"
-    );
-    private static final Set<String> BINARY_CONTENT_TYPES = Set.of(
-        "application/octet-stream", "application/pdf", "application/zip",
-        "application/x-tar", "application/gzip", "application/x-rar-compressed"
-    );
-
     // 헤더 수집 설정
-    private static final Set<String> DEFAULT_COLLECTABLE_HEADERS = Set.of(
-        "Authorization", "X-Auth-Token", "X-API-Key",
-        "X-Access-Token", "X-CSRF-Token", "X-Request-Id"
-    );
-    private Set<String> collectableHeaders = new HashSet<>(DEFAULT_COLLECTABLE_HEADERS);
+    private Set<String> collectableHeaders = new HashSet<>(RequestSnapshot.DEFAULT_COLLECTABLE_HEADERS);
     private boolean enableHeaderCollection = true;
     private boolean enableCookieCollection = true;
 
+    // 응답 수집 설정 (HTML/JSON 본문, Set-Cookie)
+    private boolean enableResponseCollection = true;
+    private int responseMaxBytes = ExtractionSettings.DEFAULT_RESPONSE_MAX_KB * 1024;
+    private Set<String> responseExcludedHosts = new HashSet<>();
+
+    // 비동기 추출 설정
+    private static final int EXTRACTION_QUEUE_CAPACITY = 10_000;
+    private ExtractionPipeline extractionPipeline;
+    private volatile boolean asyncExtractionEnabled = true;
+
+    // 화면 갱신 주기 (새 값이 들어와도 이 주기로 한 번만 반영)
+    private static final int UI_REFRESH_INTERVAL_MS = 250;
+
+    // 파라미터별 통계 (통계 탭은 STATS_REFRESH_TICKS 번 갱신마다 한 번 반영)
+    private static final int STATS_REFRESH_TICKS = 4;
+    private ParameterStatistics parameterStatistics;
+    private ParameterStatsTableModel statsTableModel;
+    private int statsRefreshTick;
+
+    // 검색 (디바운스 + 트라이그램 색인, EDT 밖에서 실행)
+    private ParameterSearcher parameterSearcher;
+
+    private ParameterExtractor parameterExtractor;
+
+    // 추출 앞단 수집 관문 (도구별 정책, Burp 범위, 형태 중복, 속도 제한)
+    private final IngestionGate ingestionGate = new IngestionGate(IngestionGate.Settings.defaults());
+
+    // 파일 입출력/가져오기/내보내기/저널 재생은 모두 여기서 (가상 스레드, EDT와 Burp 스레드를 막지 않음)
+    private BackgroundTasks backgroundTasks;
+    // 저널을 닫고 다시 여는 작업끼리 겹치지 않게
+    private final ReentrantLock journalLock = new ReentrantLock();
+
+    // 내보내기/가져오기 (백그라운드 작업으로 저장소와 파일 사이를 스트리밍, 한 번에 하나만)
+    private JButton exportButton;
+    private JButton importButton;
+    private JButton cancelTransferButton;
+    private JProgressBar transferProgress;
+    // EDT 전용. 진행 중인 내보내기/가져오기
+    private BackgroundTasks.Task<?> transferTask;
+
+    // 수집 경로 계측 (메트릭 탭은 METRICS_REFRESH_TICKS 번 갱신마다 한 번 반영)
+    private static final int METRICS_REFRESH_TICKS = 4;
+    private final IngestionMetrics ingestionMetrics = new IngestionMetrics();
+    private IngestionMetricsTableModel metricsTableModel;
+    private JLabel metricsSummaryLabel;
+    private IngestionMetrics.Snapshot lastMetricsSnapshot;
+    private int metricsRefreshTick;
+
+    // 값마다 발견 위치(호스트/엔드포인트/출처)를 int 하나로 기록하고, 파라미터 탭에서 범위로 묶어 본다
+    private final ParameterContexts parameterContexts = new ParameterContexts();
+    private ParameterContextGroups contextGroups;
+    private JComboBox<ParameterContextGroups.Scope> scopeCombo;
+    private boolean updatingScopes;
+
     @Override
     public void initialize(MontoyaApi api) {
         System.out.println("[ParameterCollector] initialize() called");
         this.api = api;
-        this.parameterValues = new ConcurrentHashMap<>();
-        System.out.println("[ParameterCollector] parameterValues map initialized");
+        this.parameterStore = createParameterStore();
+        this.parameterStatistics = new ParameterStatistics(parameterStore);
+        System.out.println("[ParameterCollector] parameterStore initialized");
         
         // Set extension name
         api.extension().setName("Parameter Collector");
 
+        // 추출 워커 풀 (코어 수만큼)
+        extractionPipeline = new ExtractionPipeline(
+            EXTRACTION_QUEUE_CAPACITY,
+            Runtime.getRuntime().availableProcessors(),
+            t -> api.logging().logToError("[Parameter Collector] 파라미터 추출 실패: " + t)
+        );
+        api.extension().registerUnloadingHandler(() -> extractionPipeline.shutdown());
+
+        // 블로킹 작업 실행기 (언로드 시 진행 중인 작업 취소)
+        backgroundTasks = new BackgroundTasks(api.logging()::logToError);
+        api.extension().registerUnloadingHandler(() -> backgroundTasks.shutdown());
+
+        // 자동 내보내기 작성기 (백그라운드 스레드 1개)
+        autoExporter = new AutoExporter(parameterStore, api.logging()::logToOutput, api.logging()::logToError);
+        api.extension().registerUnloadingHandler(() -> autoExporter.shutdown());
+
+        // 추출/저장은 Burp와 무관한 추출기에서 (설정은 적용할 때마다 통째로 교체)
+        parameterExtractor = new ParameterExtractor(parameterStatistics, parameterContexts, ingestionMetrics,
+            extractionSettings(), () -> autoExporter.onValueAdded(),
+            message -> api.logging().logToError("[Parameter Collector] " + message));
+
+        // 영구 저장: 이전 세션의 스냅샷/저널을 재생한 뒤 기록 시작
+        loadJournalPreferences();
+        openJournal();
+        parameterStore.addRemovalListener((name, value) -> {
+            ParameterJournal current = journal;
+            if (current != null) {
+                current.onRemoved(name, value);
+            }
+        });
+        api.extension().registerUnloadingHandler(this::closeJournal);
+        api.extension().registerUnloadingHandler(() -> parameterStore.close());
+
         // Register HTTP request handler
         api.http().registerHttpHandler(new HttpHandler());
 
@@ -117,9 +210,18 @@ public class ParameterCollector implements BurpExtension {
 
         // JTabbedPane 및 각 탭 컴포넌트 생성
         resultTabs = new JTabbedPane();
-        jsonArea = new JTextArea();
-        jsonArea.setEditable(false);
-        paramTable = new JTable();
+        // JSON 탭: 보이는 줄만 그리는 리스트 (셀 크기를 고정해 줄 수와 무관하게 배치)
+        jsonViewModel = new JsonViewModel(parameterStore);
+        jsonList = new JList<>(jsonViewModel);
+        jsonList.setFont(new Font(Font.MONOSPACED, Font.PLAIN, jsonList.getFont().getSize()));
+        jsonList.setFixedCellHeight(jsonList.getFontMetrics(jsonList.getFont()).getHeight());
+        updateJsonCellWidth();
+        contextGroups = new ParameterContextGroups(parameterStore, parameterContexts);
+        paramTableModel = new ParameterTableModel(parameterStore, parameterContexts, contextGroups);
+        parameterSearcher = new ParameterSearcher(parameterStore,
+            t -> api.logging().logToError("[Parameter Collector] 검색 실패: " + t));
+        api.extension().registerUnloadingHandler(() -> parameterSearcher.shutdown());
+        paramTable = new JTable(paramTableModel);
         paramTable.setSelectionMode(ListSelectionModel.SINGLE_INTERVAL_SELECTION);
         paramTable.setFocusable(true);
         paramTable.setDragEnabled(true);
@@ -135,20 +237,7 @@ public class ParameterCollector implements BurpExtension {
             }
         });
         JMenuItem deleteItem = new JMenuItem("삭제");
-        deleteItem.addActionListener(e -> {
-            int[] rows = paramTable.getSelectedRows();
-            for (int i = rows.length - 1; i >= 0; i--) {
-                int row = rows[i];
-                String param = (String) paramTable.getValueAt(row, 0);
-                String value = (String) paramTable.getValueAt(row, 1);
-                CopyOnWriteArrayList<String> values = parameterValues.get(param);
-                if (values != null) {
-                    values.remove(value);
-                    if (values.isEmpty()) parameterValues.remove(param);
-                }
-            }
-            updateParamTabWithSearch();
-        });
+        deleteItem.addActionListener(e -> paramTableModel.removeRows(paramTable.getSelectedRows()));
         popupMenu.add(copyItem);
         popupMenu.add(deleteItem);
         paramTable.setComponentPopupMenu(popupMenu);
@@ -156,42 +245,81 @@ public class ParameterCollector implements BurpExtension {
         paramTable.getInputMap(JComponent.WHEN_FOCUSED).put(KeyStroke.getKeyStroke("DELETE"), "deleteRow");
         paramTable.getActionMap().put("deleteRow", new AbstractAction() {
             public void actionPerformed(ActionEvent e) {
-                int[] rows = paramTable.getSelectedRows();
-                for (int i = rows.length - 1; i >= 0; i--) {
-                    int row = rows[i];
-                    String param = (String) paramTable.getValueAt(row, 0);
-                    String value = (String) paramTable.getValueAt(row, 1);
-                    CopyOnWriteArrayList<String> values = parameterValues.get(param);
-                    if (values != null) {
-                        values.remove(value);
-                        if (values.isEmpty()) parameterValues.remove(param);
-                    }
-                }
-                updateParamTabWithSearch();
+                paramTableModel.removeRows(paramTable.getSelectedRows());
             }
         });
 
         // 검색창 추가
         searchField = new JTextField();
+        searchField.setToolTipText("대소문자 구분 없이 검색, \"" + SearchQuery.REGEX_PREFIX + "\"로 시작하면 정규식");
         searchField.getDocument().addDocumentListener(new DocumentListener() {
             public void insertUpdate(DocumentEvent e) { updateParamTabWithSearch(); }
             public void removeUpdate(DocumentEvent e) { updateParamTabWithSearch(); }
             public void changedUpdate(DocumentEvent e) { updateParamTabWithSearch(); }
         });
+
+        // 범위 선택 (호스트/엔드포인트). 목록은 펼칠 때마다 개수와 함께 새로 만든다
+        scopeCombo = new JComboBox<>(new ParameterContextGroups.Scope[]{ParameterContextGroups.Scope.ALL});
+        scopeCombo.setPrototypeDisplayValue(new ParameterContextGroups.Scope(0, 0, "GET /api/example/path (0000)"));
+        scopeCombo.setToolTipText("호스트 또는 엔드포인트로 범위 제한");
+        scopeCombo.addPopupMenuListener(new PopupMenuListener() {
+            public void popupMenuWillBecomeVisible(PopupMenuEvent e) { reloadScopes(); }
+            public void popupMenuWillBecomeInvisible(PopupMenuEvent e) { }
+            public void popupMenuCanceled(PopupMenuEvent e) { }
+        });
+        scopeCombo.addActionListener(e -> {
+            if (!updatingScopes) {
+                updateParamTabWithSearch();
+            }
+        });
         
-        // 내보내기 버튼 추가
-        JButton exportButton = new JButton("JSON 내보내기");
-        exportButton.addActionListener(e -> exportToJson());
-        
+        // 내보내기 버튼 추가 (JSON/NDJSON/CSV, .gz면 압축)
+        exportButton = new JButton("내보내기");
+        exportButton.addActionListener(e -> exportParameters());
+        importButton = new JButton("가져오기");
+        importButton.addActionListener(e -> importParameters());
+        transferProgress = new JProgressBar();
+        transferProgress.setStringPainted(true);
+        transferProgress.setVisible(false);
+        cancelTransferButton = new JButton("취소");
+        cancelTransferButton.setVisible(false);
+        cancelTransferButton.addActionListener(e -> {
+            if (transferTask != null) {
+                transferTask.cancel();
+            }
+        });
+        JPanel exportPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT, 4, 0));
+        exportPanel.add(transferProgress);
+        exportPanel.add(cancelTransferButton);
+        exportPanel.add(importButton);
+        exportPanel.add(exportButton);
+
         JPanel bottomPanel = new JPanel(new BorderLayout());
+        bottomPanel.add(scopeCombo, BorderLayout.WEST);
         bottomPanel.add(searchField, BorderLayout.CENTER);
-        bottomPanel.add(exportButton, BorderLayout.EAST);
+        bottomPanel.add(exportPanel, BorderLayout.EAST);
         
         JPanel paramPanel = new JPanel(new BorderLayout());
         paramPanel.add(new JScrollPane(paramTable), BorderLayout.CENTER);
         paramPanel.add(bottomPanel, BorderLayout.SOUTH);
         resultTabs.addTab("파라미터", paramPanel);
-        resultTabs.addTab("JSON", new JScrollPane(jsonArea));
+        resultTabs.addTab("JSON", new JScrollPane(jsonList));
+        statsTableModel = new ParameterStatsTableModel(parameterStatistics);
+        JTable statsTable = new JTable(statsTableModel);
+        statsTable.setAutoCreateRowSorter(true);
+        resultTabs.addTab("통계", new JScrollPane(statsTable));
+        metricsTableModel = new IngestionMetricsTableModel();
+        metricsSummaryLabel = new JLabel(" ");
+        metricsSummaryLabel.setBorder(BorderFactory.createEmptyBorder(6, 6, 6, 6));
+        JButton exportMetricsButton = new JButton("메트릭 JSON 내보내기");
+        exportMetricsButton.addActionListener(e -> exportMetrics());
+        JPanel metricsBottomPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT));
+        metricsBottomPanel.add(exportMetricsButton);
+        JPanel metricsPanel = new JPanel(new BorderLayout());
+        metricsPanel.add(metricsSummaryLabel, BorderLayout.NORTH);
+        metricsPanel.add(new JScrollPane(new JTable(metricsTableModel)), BorderLayout.CENTER);
+        metricsPanel.add(metricsBottomPanel, BorderLayout.SOUTH);
+        resultTabs.addTab("메트릭", metricsPanel);
         resultTabs.addChangeListener(e -> {
             int idx = resultTabs.getSelectedIndex();
             String title = resultTabs.getTitleAt(idx);
@@ -199,6 +327,10 @@ public class ParameterCollector implements BurpExtension {
                 updateJsonTab();
             } else if ("파라미터".equals(title)) {
                 updateParamTabWithSearch();
+            } else if ("통계".equals(title)) {
+                statsTableModel.refresh();
+            } else if ("메트릭".equals(title)) {
+                refreshMetrics();
             }
         });
 
@@ -220,6 +352,11 @@ public class ParameterCollector implements BurpExtension {
         api.userInterface().registerSuiteTab("Collected Parameters", tabPanel);
         System.out.println("[ParameterCollector] Suite tab registered");
 
+        // 새 값은 타이머에서 모아서 반영
+        Timer refreshTimer = new Timer(UI_REFRESH_INTERVAL_MS, e -> refreshResultTabs());
+        refreshTimer.start();
+        api.extension().registerUnloadingHandler(refreshTimer::stop);
+
         // Add menu item to show collected parameters
         Menu menu = Menu.menu("Parameter Collector")
             .withMenuItems(
@@ -232,52 +369,141 @@ public class ParameterCollector implements BurpExtension {
 
     private void updateJsonTab() {
         SwingUtilities.invokeLater(() -> {
-            JsonArray result = new JsonArray();
-            for (Map.Entry<String, CopyOnWriteArrayList<String>> entry : parameterValues.entrySet()) {
-                if (!filterKeyword.isEmpty() && !entry.getKey().contains(filterKeyword)) continue;
-                JsonObject paramObj = new JsonObject();
-                paramObj.addProperty("name", entry.getKey());
-                JsonArray valuesArray = new JsonArray();
-                for (String value : entry.getValue()) {
-                    if (!filterKeyword.isEmpty() && !value.contains(filterKeyword)) continue;
-                    valuesArray.add(value);
-                }
-                paramObj.add("values", valuesArray);
-                result.add(paramObj);
+            if (jsonViewModel.refresh(filterKeyword)) {
+                updateJsonCellWidth();
             }
-            Gson gson = new GsonBuilder().setPrettyPrinting().create();
-            jsonArea.setText(gson.toJson(result));
         });
     }
 
-    private void updateParamTab() {
+    // 가장 긴 줄이 들어가는 고정 폭 (가로 스크롤용)
+    private void updateJsonCellWidth() {
+        int width = jsonList.getFontMetrics(jsonList.getFont()).charWidth('m') * (jsonViewModel.longestLine() + 2);
+        if (width > jsonList.getFixedCellWidth()) {
+            jsonList.setFixedCellWidth(width);
+        }
+    }
+
+    private void updateParamTabWithSearch() {
         SwingUtilities.invokeLater(() -> {
-            DefaultTableModel paramModel = new DefaultTableModel(new Object[]{"파라미터명", "값"}, 0);
-            for (Map.Entry<String, CopyOnWriteArrayList<String>> entry : parameterValues.entrySet()) {
-                if (!filterKeyword.isEmpty() && !entry.getKey().contains(filterKeyword)) continue;
-                for (String value : entry.getValue()) {
-                    if (!filterKeyword.isEmpty() && !value.contains(filterKeyword)) continue;
-                    paramModel.addRow(new Object[]{entry.getKey(), value});
-                }
+            SearchQuery query = SearchQuery.parse(searchField.getText().trim());
+            // 정규식 문법 오류는 입력창 색으로만 표시
+            searchField.setForeground(query == null ? Color.RED : UIManager.getColor("TextField.foreground"));
+            if (query == null) {
+                return;
+            }
+            ParameterContextGroups.Scope scope = (ParameterContextGroups.Scope) scopeCombo.getSelectedItem();
+            if (query.isEmpty()) {
+                parameterSearcher.cancel();
+                paramTableModel.setFilter(filterKeyword, query, scope);
+            } else if (paramTableModel.isShowing(filterKeyword, query, scope)) {
+                paramTableModel.refresh();
+            } else {
+                String keyword = filterKeyword;
+                parameterSearcher.search(query, keyword, (ids, scannedLimit) ->
+                    paramTableModel.setSearchResult(keyword, query, scope, ids, scannedLimit));
             }
-            paramTable.setModel(paramModel);
         });
     }
 
-    private void updateParamTabWithSearch() {
-        SwingUtilities.invokeLater(() -> {
-            String search = searchField.getText().trim();
-            DefaultTableModel paramModel = new DefaultTableModel(new Object[]{"파라미터명", "값"}, 0);
-            for (Map.Entry<String, CopyOnWriteArrayList<String>> entry : parameterValues.entrySet()) {
-                if (!filterKeyword.isEmpty() && !entry.getKey().contains(filterKeyword)) continue;
-                for (String value : entry.getValue()) {
-                    if (!filterKeyword.isEmpty() && !value.contains(filterKeyword)) continue;
-                    if (search.isEmpty() || entry.getKey().contains(search) || value.contains(search)) {
-                        paramModel.addRow(new Object[]{entry.getKey(), value});
-                    }
-                }
+    // 범위 목록 다시 만들기 (선택은 같은 호스트/엔드포인트로 유지, 없어졌으면 전체)
+    private void reloadScopes() {
+        ParameterContextGroups.Scope selected = (ParameterContextGroups.Scope) scopeCombo.getSelectedItem();
+        List<ParameterContextGroups.Scope> scopes = contextGroups.scopes();
+        ParameterContextGroups.Scope keep = scopes.stream()
+            .filter(scope -> scope.sameAs(selected))
+            .findFirst()
+            .orElse(ParameterContextGroups.Scope.ALL);
+        updatingScopes = true;
+        try {
+            DefaultComboBoxModel<ParameterContextGroups.Scope> model =
+                new DefaultComboBoxModel<>(scopes.toArray(new ParameterContextGroups.Scope[0]));
+            model.setSelectedItem(keep);
+            scopeCombo.setModel(model);
+        } finally {
+            updatingScopes = false;
+        }
+        if (!keep.sameAs(selected)) {
+            updateParamTabWithSearch();
+        }
+    }
+
+    // 타이머 콜백 (EDT): 보이는 탭에 새 값만 반영
+    private void refreshResultTabs() {
+        int idx = resultTabs.getSelectedIndex();
+        String title = resultTabs.getTitleAt(idx);
+        if ("파라미터".equals(title)) {
+            paramTableModel.refresh();
+        } else if ("JSON".equals(title)) {
+            if (jsonViewModel.refresh(filterKeyword)) {
+                updateJsonCellWidth();
+            }
+        } else if ("통계".equals(title)) {
+            if (++statsRefreshTick >= STATS_REFRESH_TICKS) {
+                statsRefreshTick = 0;
+                statsTableModel.refresh();
+            }
+        } else if ("메트릭".equals(title)) {
+            if (++metricsRefreshTick >= METRICS_REFRESH_TICKS) {
+                metricsRefreshTick = 0;
+                refreshMetrics();
+            }
+        }
+    }
+
+    private IngestionMetrics.Snapshot takeMetricsSnapshot() {
+        return ingestionMetrics.snapshot(extractionPipeline.queueDepth(), extractionPipeline.capacity(),
+            extractionPipeline.droppedCount(), parameterStore.size(), parameterStore.parameterCount());
+    }
+
+    // 메트릭 탭 갱신 (EDT). 초당 값은 직전 갱신과의 차이
+    private void refreshMetrics() {
+        IngestionMetrics.Snapshot snapshot = takeMetricsSnapshot();
+        IngestionMetrics.Snapshot previous = lastMetricsSnapshot;
+        LatencyHistogram.Snapshot handler = snapshot.stages().get(IngestionMetrics.Stage.HANDLER);
+        metricsSummaryLabel.setText(String.format(
+            "<html>핸들러 지연 p50 %.1f µs / p99 %.1f µs &nbsp;|&nbsp; 요청 %,d (%.1f/초), 응답 %,d"
+                + "<br>추출 값 %.1f/초, 새 값 %.1f/초 &nbsp;|&nbsp; 큐 %,d / %,d (버림 %,d)"
+                + "<br>저장된 값 %,d (파라미터 %,d) &nbsp;|&nbsp; 힙 %,d MB / %,d MB"
+                + "<br>수집 관문 건너뜀 %,d (도구 %,d, 범위 밖 %,d, 형태 중복 %,d, 속도 제한 %,d)</html>",
+            handler.percentile(50) / 1000.0, handler.percentile(99) / 1000.0,
+            snapshot.requests(), snapshot.requestsPerSecond(previous), snapshot.responses(),
+            snapshot.extractedPerSecond(previous), snapshot.storedPerSecond(previous),
+            snapshot.queueDepth(), snapshot.queueCapacity(), snapshot.dropped(),
+            snapshot.storedValues(), snapshot.parameterCount(),
+            snapshot.heapUsed() >> 20, snapshot.heapMax() >> 20,
+            snapshot.skippedTotal(), snapshot.skipped().get(IngestionGate.Decision.TOOL_OFF),
+            snapshot.skipped().get(IngestionGate.Decision.OUT_OF_SCOPE),
+            snapshot.skipped().get(IngestionGate.Decision.DUPLICATE_SHAPE),
+            snapshot.skipped().get(IngestionGate.Decision.RATE_LIMITED)));
+        metricsTableModel.update(snapshot);
+        lastMetricsSnapshot = snapshot;
+    }
+
+    private void exportMetrics() {
+        JFileChooser fileChooser = new JFileChooser();
+        fileChooser.setFileFilter(new FileNameExtensionFilter("JSON files", "json"));
+        fileChooser.setSelectedFile(new File("parameter-collector-metrics.json"));
+        if (fileChooser.showSaveDialog(null) != JFileChooser.APPROVE_OPTION) {
+            return;
+        }
+        File file = fileChooser.getSelectedFile();
+        if (!file.getName().endsWith(".json")) {
+            file = new File(file.getAbsolutePath() + ".json");
+        }
+        // 스냅샷은 EDT에서 뜨고 파일 쓰기만 백그라운드로
+        JsonObject json = takeMetricsSnapshot().toJson(lastMetricsSnapshot);
+        File target = file;
+        backgroundTasks.submit("메트릭 내보내기", task -> {
+            try (FileWriter writer = new FileWriter(target, StandardCharsets.UTF_8)) {
+                new GsonBuilder().setPrettyPrinting().create().toJson(json, writer);
+            }
+            return null;
+        }, null, outcome -> {
+            if (outcome.succeeded()) {
+                JOptionPane.showMessageDialog(null, "메트릭을 저장했습니다.");
+            } else if (outcome.error() != null) {
+                JOptionPane.showMessageDialog(null, "파일 저장 중 오류 발생: " + outcome.errorMessage(), "오류", JOptionPane.ERROR_MESSAGE);
             }
-            paramTable.setModel(paramModel);
         });
     }
 
@@ -293,6 +519,12 @@ public class ParameterCollector implements BurpExtension {
         JTextField nameLenField = new JTextField(String.valueOf(maxParamNameLength), 10);
         JTextField valueLenField = new JTextField(String.valueOf(maxParamValueLength), 10);
         JTextField filterField = new JTextField(filterKeyword, 20);
+        JTextField jsonDepthField = new JTextField(String.valueOf(jsonExtractor.maxDepth()), 10);
+        JTextField jsonArrayIndexField = new JTextField(String.valueOf(jsonExtractor.maxArrayIndex()), 10);
+        JCheckBox collapseArrayCheckBox = new JCheckBox("JSON 배열 인덱스 합치기 (items[0].id -> items[].id)",
+            jsonExtractor.collapseArrayIndices());
+        JTextField samplingThresholdField = new JTextField(String.valueOf(parameterStatistics.getSamplingThreshold()), 10);
+        JTextField sampleSizeField = new JTextField(String.valueOf(parameterStatistics.getSampleSize()), 10);
 
         gbc.gridx = 0; gbc.gridy = 0; gbc.weightx = 0;
         basicPanel.add(new JLabel("최대 파라미터 이름 길이:"), gbc);
@@ -309,8 +541,32 @@ public class ParameterCollector implements BurpExtension {
         gbc.gridx = 1; gbc.weightx = 1;
         basicPanel.add(filterField, gbc);
 
+        gbc.gridx = 0; gbc.gridy = 3; gbc.weightx = 0;
+        basicPanel.add(new JLabel("JSON 최대 깊이:"), gbc);
+        gbc.gridx = 1; gbc.weightx = 1;
+        basicPanel.add(jsonDepthField, gbc);
+
+        gbc.gridx = 0; gbc.gridy = 4; gbc.weightx = 0;
+        basicPanel.add(new JLabel("JSON 배열당 최대 원소 수 (0 = 제한 없음):"), gbc);
+        gbc.gridx = 1; gbc.weightx = 1;
+        basicPanel.add(jsonArrayIndexField, gbc);
+
+        gbc.gridx = 0; gbc.gridy = 5; gbc.gridwidth = 2;
+        basicPanel.add(collapseArrayCheckBox, gbc);
+        gbc.gridwidth = 1;
+
+        gbc.gridx = 0; gbc.gridy = 6; gbc.weightx = 0;
+        basicPanel.add(new JLabel("샘플링 전환 고유 값 수 (0 = 끄기, 표본 밖 값은 삭제됨):"), gbc);
+        gbc.gridx = 1; gbc.weightx = 1;
+        basicPanel.add(samplingThresholdField, gbc);
+
+        gbc.gridx = 0; gbc.gridy = 7; gbc.weightx = 0;
+        basicPanel.add(new JLabel("샘플링 시 보관할 값 수:"), gbc);
+        gbc.gridx = 1; gbc.weightx = 1;
+        basicPanel.add(sampleSizeField, gbc);
+
         // 여백 추가
-        gbc.gridx = 0; gbc.gridy = 3; gbc.weighty = 1;
+        gbc.gridx = 0; gbc.gridy = 8; gbc.weighty = 1;
         basicPanel.add(new JLabel(""), gbc);
 
         settingsTabs.addTab("기본", basicPanel);
@@ -324,7 +580,7 @@ public class ParameterCollector implements BurpExtension {
         sensitiveKeywordsArea.setLineWrap(true);
         JButton resetSensitiveBtn = new JButton("기본값 복원");
         resetSensitiveBtn.addActionListener(e -> {
-            sensitiveKeywordsArea.setText(String.join("\n", DEFAULT_SENSITIVE_KEYWORDS));
+            sensitiveKeywordsArea.setText(String.join("\n", ExtractionSettings.DEFAULT_SENSITIVE_KEYWORDS));
         });
 
         JPanel sensitiveTopPanel = new JPanel(new BorderLayout());
@@ -350,7 +606,7 @@ public class ParameterCollector implements BurpExtension {
         headerListArea.setLineWrap(true);
         JButton resetHeaderBtn = new JButton("기본값 복원");
         resetHeaderBtn.addActionListener(e -> {
-            headerListArea.setText(String.join("\n", DEFAULT_COLLECTABLE_HEADERS));
+            headerListArea.setText(String.join("\n", RequestSnapshot.DEFAULT_COLLECTABLE_HEADERS));
         });
 
         JPanel headerCheckBoxPanel = new JPanel(new GridLayout(2, 1));
@@ -370,7 +626,32 @@ public class ParameterCollector implements BurpExtension {
 
         settingsTabs.addTab("헤더 수집", headerPanel);
 
-        // === 탭 4: 자동 내보내기 설정 ===
+        // === 탭 4: 응답 수집 설정 ===
+        JPanel responsePanel = new JPanel(new BorderLayout(5, 5));
+        responsePanel.setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
+
+        JCheckBox responseCheckBox = new JCheckBox("응답에서 파라미터 수집 (HTML 폼/링크, JSON, Set-Cookie)", enableResponseCollection);
+        JTextField responseMaxKbField = new JTextField(String.valueOf(responseMaxBytes / 1024), 10);
+        JTextArea excludedHostsArea = new JTextArea(String.join("\n", responseExcludedHosts), 8, 30);
+        excludedHostsArea.setLineWrap(true);
+
+        JPanel responseTopPanel = new JPanel(new GridLayout(2, 1));
+        responseTopPanel.add(responseCheckBox);
+        JPanel responseMaxPanel = new JPanel(new FlowLayout(FlowLayout.LEFT, 0, 0));
+        responseMaxPanel.add(new JLabel("최대 본문 크기 (KB): "));
+        responseMaxPanel.add(responseMaxKbField);
+        responseTopPanel.add(responseMaxPanel);
+
+        JPanel responseCenterPanel = new JPanel(new BorderLayout(5, 5));
+        responseCenterPanel.add(new JLabel("응답 수집 제외 호스트 (줄바꿈으로 구분):"), BorderLayout.NORTH);
+        responseCenterPanel.add(new JScrollPane(excludedHostsArea), BorderLayout.CENTER);
+
+        responsePanel.add(responseTopPanel, BorderLayout.NORTH);
+        responsePanel.add(responseCenterPanel, BorderLayout.CENTER);
+
+        settingsTabs.addTab("응답 수집", responsePanel);
+
+        // === 탭 5: 자동 내보내기 설정 ===
         JPanel autoExportTabPanel = new JPanel(new GridBagLayout());
         GridBagConstraints gbc2 = new GridBagConstraints();
         gbc2.insets = new Insets(5, 5, 5, 5);
@@ -378,6 +659,8 @@ public class ParameterCollector implements BurpExtension {
 
         JCheckBox autoExportCheckBox = new JCheckBox("자동 내보내기 활성화", autoExportEnabled);
         JTextField autoExportPathField = new JTextField(autoExportPath, 25);
+        JTextField flushIntervalField = new JTextField(String.valueOf(autoExporter.getFlushIntervalMs()), 10);
+        JTextField batchSizeField = new JTextField(String.valueOf(autoExporter.getBatchSize()), 10);
         JButton browseButton = new JButton("경로 선택...");
         browseButton.addActionListener(e -> {
             JFileChooser fileChooser = new JFileChooser();
@@ -405,16 +688,190 @@ public class ParameterCollector implements BurpExtension {
         browsePanel.add(browseButton);
         autoExportTabPanel.add(browsePanel, gbc2);
 
+        gbc2.gridx = 0; gbc2.gridy = 3; gbc2.gridwidth = 1; gbc2.weightx = 0;
+        autoExportTabPanel.add(new JLabel("기록 주기 (ms):"), gbc2);
+        gbc2.gridx = 1; gbc2.weightx = 1;
+        autoExportTabPanel.add(flushIntervalField, gbc2);
+
+        gbc2.gridx = 0; gbc2.gridy = 4; gbc2.weightx = 0;
+        autoExportTabPanel.add(new JLabel("즉시 기록할 새 값 개수:"), gbc2);
+        gbc2.gridx = 1; gbc2.weightx = 1;
+        autoExportTabPanel.add(batchSizeField, gbc2);
+
         // 여백 추가
-        gbc2.gridx = 0; gbc2.gridy = 3; gbc2.weighty = 1;
+        gbc2.gridx = 0; gbc2.gridy = 5; gbc2.weighty = 1;
         autoExportTabPanel.add(new JLabel(""), gbc2);
 
         settingsTabs.addTab("자동 내보내기", autoExportTabPanel);
 
+        // === 탭 6: 영구 저장 설정 ===
+        JPanel journalPanel = new JPanel(new GridBagLayout());
+        GridBagConstraints gbc4 = new GridBagConstraints();
+        gbc4.insets = new Insets(5, 5, 5, 5);
+        gbc4.fill = GridBagConstraints.HORIZONTAL;
+
+        JCheckBox journalCheckBox = new JCheckBox("수집 값을 디스크에 저장 (재시작 후 복원)", journalEnabled);
+        JTextField journalDirectoryField = new JTextField(journalDirectory, 25);
+        JTextField compactionField = new JTextField(String.valueOf(journalCompactionThreshold), 10);
+        JButton journalBrowseButton = new JButton("폴더 선택...");
+        journalBrowseButton.addActionListener(e -> chooseDirectory(journalDirectoryField));
+        JComboBox<ParameterStore.Backend> storeBackendCombo = new JComboBox<>(ParameterStore.Backend.values());
+        storeBackendCombo.setSelectedItem(storeBackend);
+        JTextField storeDirectoryField = new JTextField(storeDirectory, 25);
+        JButton storeBrowseButton = new JButton("폴더 선택...");
+        storeBrowseButton.addActionListener(e -> chooseDirectory(storeDirectoryField));
+
+        gbc4.gridx = 0; gbc4.gridy = 0; gbc4.gridwidth = 2;
+        journalPanel.add(journalCheckBox, gbc4);
+
+        gbc4.gridx = 0; gbc4.gridy = 1; gbc4.gridwidth = 1; gbc4.weightx = 0;
+        journalPanel.add(new JLabel("저장 폴더:"), gbc4);
+        gbc4.gridx = 1; gbc4.weightx = 1;
+        journalPanel.add(journalDirectoryField, gbc4);
+
+        gbc4.gridx = 0; gbc4.gridy = 2; gbc4.gridwidth = 2; gbc4.weightx = 0;
+        JPanel journalBrowsePanel = new JPanel(new FlowLayout(FlowLayout.RIGHT));
+        journalBrowsePanel.add(journalBrowseButton);
+        journalPanel.add(journalBrowsePanel, gbc4);
+
+        gbc4.gridx = 0; gbc4.gridy = 3; gbc4.gridwidth = 1; gbc4.weightx = 0;
+        journalPanel.add(new JLabel("압축 기준 기록 수:"), gbc4);
+        gbc4.gridx = 1; gbc4.weightx = 1;
+        journalPanel.add(compactionField, gbc4);
+
+        gbc4.gridx = 0; gbc4.gridy = 4; gbc4.gridwidth = 2;
+        journalPanel.add(new JSeparator(), gbc4);
+
+        gbc4.gridx = 0; gbc4.gridy = 5; gbc4.gridwidth = 1; gbc4.weightx = 0;
+        journalPanel.add(new JLabel("값 저장 방식:"), gbc4);
+        gbc4.gridx = 1; gbc4.weightx = 1;
+        journalPanel.add(storeBackendCombo, gbc4);
+
+        gbc4.gridx = 0; gbc4.gridy = 6; gbc4.weightx = 0;
+        journalPanel.add(new JLabel("매핑 파일 폴더:"), gbc4);
+        gbc4.gridx = 1; gbc4.weightx = 1;
+        journalPanel.add(storeDirectoryField, gbc4);
+
+        gbc4.gridx = 0; gbc4.gridy = 7; gbc4.gridwidth = 2; gbc4.weightx = 0;
+        JPanel storeBrowsePanel = new JPanel(new FlowLayout(FlowLayout.RIGHT));
+        storeBrowsePanel.add(new JLabel("(비우면 임시 폴더, 확장을 다시 로드하면 적용)"));
+        storeBrowsePanel.add(storeBrowseButton);
+        journalPanel.add(storeBrowsePanel, gbc4);
+
+        // 여백 추가
+        gbc4.gridx = 0; gbc4.gridy = 8; gbc4.weighty = 1;
+        journalPanel.add(new JLabel(""), gbc4);
+
+        settingsTabs.addTab("영구 저장", journalPanel);
+
+        // === 탭 7: 수집 제한 설정 ===
+        IngestionGate.Settings gateSettings = ingestionGate.settings();
+        JPanel gatePanel = new JPanel(new GridBagLayout());
+        GridBagConstraints gbc5 = new GridBagConstraints();
+        gbc5.insets = new Insets(3, 5, 3, 5);
+        gbc5.fill = GridBagConstraints.HORIZONTAL;
+
+        JCheckBox scopeOnlyCheckBox = new JCheckBox("Burp 대상 범위(Target scope) 안의 요청만 수집", gateSettings.scopeOnly());
+        gbc5.gridx = 0; gbc5.gridy = 0; gbc5.gridwidth = 3;
+        gatePanel.add(scopeOnlyCheckBox, gbc5);
+
+        gbc5.gridy = 1; gbc5.gridwidth = 1;
+        gbc5.gridx = 0; gatePanel.add(new JLabel("도구"), gbc5);
+        gbc5.gridx = 1; gatePanel.add(new JLabel("정책"), gbc5);
+        gbc5.gridx = 2; gatePanel.add(new JLabel("초당 요청 (0 = 무제한)"), gbc5);
+
+        Map<IngestionGate.Tool, JComboBox<IngestionGate.Mode>> toolModeCombos = new EnumMap<>(IngestionGate.Tool.class);
+        Map<IngestionGate.Tool, JTextField> toolRateFields = new EnumMap<>(IngestionGate.Tool.class);
+        int gateRow = 2;
+        for (IngestionGate.Tool tool : IngestionGate.Tool.values()) {
+            JComboBox<IngestionGate.Mode> modeCombo = new JComboBox<>(IngestionGate.Mode.values());
+            modeCombo.setSelectedItem(gateSettings.mode(tool));
+            JTextField rateField = new JTextField(String.valueOf(gateSettings.toolRate(tool)), 6);
+            toolModeCombos.put(tool, modeCombo);
+            toolRateFields.put(tool, rateField);
+            gbc5.gridy = gateRow++;
+            gbc5.gridx = 0; gbc5.weightx = 0; gatePanel.add(new JLabel(tool.toString()), gbc5);
+            gbc5.gridx = 1; gbc5.weightx = 1; gatePanel.add(modeCombo, gbc5);
+            gbc5.gridx = 2; gbc5.weightx = 0; gatePanel.add(rateField, gbc5);
+        }
+
+        JTextField hostRateField = new JTextField(String.valueOf(gateSettings.hostRate()), 6);
+        JTextField shapeCacheField = new JTextField(String.valueOf(gateSettings.shapeCacheSize()), 10);
+        gbc5.gridy = gateRow++;
+        gbc5.gridx = 0; gbc5.gridwidth = 2; gbc5.weightx = 0;
+        gatePanel.add(new JLabel("호스트별 초당 요청 (0 = 무제한):"), gbc5);
+        gbc5.gridx = 2; gbc5.gridwidth = 1;
+        gatePanel.add(hostRateField, gbc5);
+        gbc5.gridy = gateRow++;
+        gbc5.gridx = 0; gbc5.gridwidth = 2;
+        gatePanel.add(new JLabel("기억할 요청 형태 수:"), gbc5);
+        gbc5.gridx = 2; gbc5.gridwidth = 1;
+        gatePanel.add(shapeCacheField, gbc5);
+
+        // 여백 추가
+        gbc5.gridx = 0; gbc5.gridy = gateRow; gbc5.weighty = 1;
+        gatePanel.add(new JLabel(""), gbc5);
+
+        settingsTabs.addTab("수집 제한", new JScrollPane(gatePanel));
+
+        // === 탭 8: 비동기 처리 설정 ===
+        JPanel asyncPanel = new JPanel(new GridBagLayout());
+        GridBagConstraints gbc3 = new GridBagConstraints();
+        gbc3.insets = new Insets(5, 5, 5, 5);
+        gbc3.fill = GridBagConstraints.HORIZONTAL;
+
+        JCheckBox asyncCheckBox = new JCheckBox("비동기 추출 활성화 (핸들러 스레드에서 분리)", asyncExtractionEnabled);
+        JComboBox<ExtractionPipeline.BackpressurePolicy> policyCombo =
+            new JComboBox<>(ExtractionPipeline.BackpressurePolicy.values());
+        policyCombo.setSelectedItem(extractionPipeline.getPolicy());
+        JTextField sampleRateField = new JTextField(String.valueOf(extractionPipeline.getSampleRate()), 10);
+        JLabel queueDepthLabel = new JLabel();
+        JLabel droppedLabel = new JLabel();
+        Runnable refreshPipelineStatus = () -> {
+            queueDepthLabel.setText(extractionPipeline.queueDepth() + " / " + extractionPipeline.capacity()
+                + " (워커 " + extractionPipeline.workerCount() + "개)");
+            droppedLabel.setText(String.valueOf(extractionPipeline.droppedCount()));
+        };
+        refreshPipelineStatus.run();
+
+        gbc3.gridx = 0; gbc3.gridy = 0; gbc3.gridwidth = 2;
+        asyncPanel.add(asyncCheckBox, gbc3);
+
+        gbc3.gridx = 0; gbc3.gridy = 1; gbc3.gridwidth = 1; gbc3.weightx = 0;
+        asyncPanel.add(new JLabel("대기열 포화 시 정책:"), gbc3);
+        gbc3.gridx = 1; gbc3.weightx = 1;
+        asyncPanel.add(policyCombo, gbc3);
+
+        gbc3.gridx = 0; gbc3.gridy = 2; gbc3.weightx = 0;
+        asyncPanel.add(new JLabel("샘플링 비율 (1/N):"), gbc3);
+        gbc3.gridx = 1; gbc3.weightx = 1;
+        asyncPanel.add(sampleRateField, gbc3);
+
+        gbc3.gridx = 0; gbc3.gridy = 3; gbc3.weightx = 0;
+        asyncPanel.add(new JLabel("대기열 크기:"), gbc3);
+        gbc3.gridx = 1; gbc3.weightx = 1;
+        asyncPanel.add(queueDepthLabel, gbc3);
+
+        gbc3.gridx = 0; gbc3.gridy = 4; gbc3.weightx = 0;
+        asyncPanel.add(new JLabel("버려진 요청 수:"), gbc3);
+        gbc3.gridx = 1; gbc3.weightx = 1;
+        asyncPanel.add(droppedLabel, gbc3);
+
+        // 여백 추가
+        gbc3.gridx = 0; gbc3.gridy = 5; gbc3.weighty = 1;
+        asyncPanel.add(new JLabel(""), gbc3);
+
+        settingsTabs.addTab("비동기 처리", asyncPanel);
+
+        // 다이얼로그가 열려 있는 동안 대기열 상태 갱신
+        Timer pipelineStatusTimer = new Timer(500, e -> refreshPipelineStatus.run());
+        pipelineStatusTimer.start();
+
         // === 다이얼로그 표시 ===
         settingsTabs.setPreferredSize(new Dimension(450, 350));
         int result = JOptionPane.showConfirmDialog(null, settingsTabs,
             "Parameter Collector 설정", JOptionPane.OK_CANCEL_OPTION, JOptionPane.PLAIN_MESSAGE);
+        pipelineStatusTimer.stop();
 
         if (result == JOptionPane.OK_OPTION) {
             try {
@@ -422,6 +879,15 @@ public class ParameterCollector implements BurpExtension {
                 maxParamNameLength = Integer.parseInt(nameLenField.getText());
                 maxParamValueLength = Integer.parseInt(valueLenField.getText());
                 filterKeyword = filterField.getText();
+                jsonExtractor = new JsonStreamExtractor(
+                    Integer.parseInt(jsonDepthField.getText()),
+                    Math.max(0, Integer.parseInt(jsonArrayIndexField.getText())),
+                    collapseArrayCheckBox.isSelected()
+                );
+                parameterStatistics.configure(
+                    Integer.parseInt(samplingThresholdField.getText()),
+                    Integer.parseInt(sampleSizeField.getText())
+                );
 
                 // 민감 파라미터 설정 적용
                 enableSensitiveFilter = sensitiveFilterCheckBox.isSelected();
@@ -430,6 +896,15 @@ public class ParameterCollector implements BurpExtension {
                     .filter(s -> !s.isEmpty())
                     .collect(Collectors.toCollection(HashSet::new));
 
+                // 응답 수집 설정 적용
+                int responseMaxKb = Integer.parseInt(responseMaxKbField.getText());
+                enableResponseCollection = responseCheckBox.isSelected();
+                responseMaxBytes = Math.max(1, responseMaxKb) * 1024;
+                responseExcludedHosts = Arrays.stream(excludedHostsArea.getText().split("\n"))
+                    .map(host -> host.trim().toLowerCase())
+                    .filter(host -> !host.isEmpty())
+                    .collect(Collectors.toCollection(HashSet::new));
+
                 // 헤더 수집 설정 적용
                 enableCookieCollection = cookieCheckBox.isSelected();
                 enableHeaderCollection = headerCheckBox.isSelected();
@@ -438,13 +913,67 @@ public class ParameterCollector implements BurpExtension {
                     .filter(s -> !s.isEmpty())
                     .collect(Collectors.toCollection(HashSet::new));
 
+                // 추출기에는 한 번에 반영
+                parameterExtractor.configure(extractionSettings());
+
+                // 수집 제한 설정 적용
+                Map<IngestionGate.Tool, IngestionGate.Mode> toolModes = new EnumMap<>(IngestionGate.Tool.class);
+                Map<IngestionGate.Tool, Integer> toolRates = new EnumMap<>(IngestionGate.Tool.class);
+                for (IngestionGate.Tool tool : IngestionGate.Tool.values()) {
+                    toolModes.put(tool, (IngestionGate.Mode) toolModeCombos.get(tool).getSelectedItem());
+                    toolRates.put(tool, Math.max(0, Integer.parseInt(toolRateFields.get(tool).getText().trim())));
+                }
+                ingestionGate.configure(new IngestionGate.Settings(scopeOnlyCheckBox.isSelected(), toolModes, toolRates,
+                    Math.max(0, Integer.parseInt(hostRateField.getText().trim())),
+                    Math.max(1, Integer.parseInt(shapeCacheField.getText().trim()))));
+
                 // 자동 내보내기 설정 적용
+                long flushInterval = Long.parseLong(flushIntervalField.getText());
+                int batchSize = Integer.parseInt(batchSizeField.getText());
                 autoExportEnabled = autoExportCheckBox.isSelected();
                 autoExportPath = autoExportPathField.getText();
 
-                // 자동 내보내기가 활성화되고 경로가 설정되어 있으면 초기 저장
-                if (autoExportEnabled && !autoExportPath.isEmpty()) {
-                    performAutoExport();
+                // 비동기 처리 설정 적용
+                int sampleRate = Integer.parseInt(sampleRateField.getText());
+                asyncExtractionEnabled = asyncCheckBox.isSelected();
+                extractionPipeline.setPolicy((ExtractionPipeline.BackpressurePolicy) policyCombo.getSelectedItem());
+                extractionPipeline.setSampleRate(sampleRate);
+
+                // 자동 내보내기가 활성화되고 경로가 설정되어 있으면 백그라운드에서 초기 저장
+                autoExporter.configure(autoExportEnabled && !autoExportPath.isEmpty(), autoExportPath,
+                    filterKeyword, flushInterval, batchSize);
+
+                // 영구 저장 설정 적용 (바뀐 경우에만 저널을 다시 연다)
+                int compactionThreshold = Integer.parseInt(compactionField.getText());
+                boolean journalChanged = journalEnabled != journalCheckBox.isSelected()
+                    || !journalDirectory.equals(journalDirectoryField.getText())
+                    || journalCompactionThreshold != compactionThreshold;
+                if (journalChanged) {
+                    journalEnabled = journalCheckBox.isSelected();
+                    journalDirectory = journalDirectoryField.getText();
+                    journalCompactionThreshold = compactionThreshold;
+                    saveJournalPreferences();
+                    // 저널 재생은 파일 크기만큼 걸리므로 백그라운드에서
+                    backgroundTasks.submit("저널 다시 열기", task -> {
+                        journalLock.lockInterruptibly();
+                        try {
+                            closeJournal();
+                            openJournal();
+                        } finally {
+                            journalLock.unlock();
+                        }
+                        return null;
+                    }, null, outcome -> refreshResultTabs());
+                }
+
+                // 값 저장 방식은 다음 로드부터 적용
+                ParameterStore.Backend backend = (ParameterStore.Backend) storeBackendCombo.getSelectedItem();
+                if (backend != storeBackend || !storeDirectory.equals(storeDirectoryField.getText())) {
+                    storeBackend = backend;
+                    storeDirectory = storeDirectoryField.getText();
+                    api.persistence().preferences().setString(PREF_STORE_BACKEND, storeBackend.name());
+                    api.persistence().preferences().setString(PREF_STORE_DIRECTORY, storeDirectory);
+                    api.logging().logToOutput("[Parameter Collector] 값 저장 방식 변경은 확장을 다시 로드하면 적용됩니다.");
                 }
 
                 api.logging().logToOutput("[Parameter Collector] 설정이 저장되었습니다.");
@@ -454,313 +983,207 @@ public class ParameterCollector implements BurpExtension {
         }
     }
 
-    private class HttpHandler implements burp.api.montoya.http.handler.HttpHandler {
-        @Override
-        public RequestToBeSentAction handleHttpRequestToBeSent(HttpRequestToBeSent requestToBeSent) {
-            String contentType = getContentType(requestToBeSent);
-
-            // 바이너리 요청은 스킵
-            if (isBinaryContentType(contentType)) {
-                return RequestToBeSentAction.continueWith(requestToBeSent);
-            }
-
-            String url = requestToBeSent.url();
-            String body = requestToBeSent.bodyToString();
-
-            // URL 파라미터 추출
-            extractParametersFromUrl(url);
-
-            // Body 파라미터 추출 (Content-Type 기반 분기)
-            extractParametersFromBody(body, contentType);
-
-            // 쿠키 추출
-            extractCookieParameters(requestToBeSent);
-
-            // 인증 헤더 추출
-            extractHeaderParameters(requestToBeSent);
-
-            return RequestToBeSentAction.continueWith(requestToBeSent);
+    private void chooseDirectory(JTextField target) {
+        JFileChooser fileChooser = new JFileChooser();
+        fileChooser.setFileSelectionMode(JFileChooser.DIRECTORIES_ONLY);
+        if (!target.getText().isEmpty()) {
+            fileChooser.setCurrentDirectory(new File(target.getText()));
         }
-
-        @Override
-        public ResponseReceivedAction handleHttpResponseReceived(HttpResponseReceived responseReceived) {
-            return ResponseReceivedAction.continueWith(responseReceived);
+        if (fileChooser.showOpenDialog(null) == JFileChooser.APPROVE_OPTION) {
+            target.setText(fileChooser.getSelectedFile().getAbsolutePath());
         }
+    }
 
-        // === 유틸리티 메서드 ===
-
-        private String getContentType(HttpRequestToBeSent request) {
-            String contentType = request.headerValue("Content-Type");
-            return contentType != null ? contentType.toLowerCase() : "";
+    // 환경설정의 저장 방식으로 저장소 생성. 매핑 파일을 만들 수 없으면 힙 저장소 사용
+    private ParameterStore createParameterStore() {
+        Preferences preferences = api.persistence().preferences();
+        String backend = preferences.getString(PREF_STORE_BACKEND);
+        String directory = preferences.getString(PREF_STORE_DIRECTORY);
+        storeBackend = "MAPPED".equals(backend) ? ParameterStore.Backend.MAPPED : ParameterStore.Backend.HEAP;
+        storeDirectory = directory != null ? directory : "";
+        try {
+            return ParameterStore.create(storeBackend, storeDirectory);
+        } catch (IOException | RuntimeException e) {
+            api.logging().logToError("[Parameter Collector] 매핑 저장소 생성 실패, 힙 저장소 사용: " + e.getMessage());
+            return new HeapParameterStore();
         }
+    }
 
-        private boolean isBinaryContentType(String contentType) {
-            if (contentType == null || contentType.isEmpty()) {
-                return false;
-            }
-            String lower = contentType.toLowerCase();
+    private void loadJournalPreferences() {
+        Preferences preferences = api.persistence().preferences();
+        Boolean enabled = preferences.getBoolean(PREF_JOURNAL_ENABLED);
+        String directory = preferences.getString(PREF_JOURNAL_DIRECTORY);
+        Integer threshold = preferences.getInteger(PREF_JOURNAL_COMPACTION);
+        journalEnabled = enabled != null && enabled;
+        journalDirectory = directory != null ? directory : "";
+        journalCompactionThreshold = threshold != null ? threshold : DEFAULT_JOURNAL_COMPACTION_THRESHOLD;
+    }
 
-            // 접두사 기반 체크 (image/*, audio/*, video/*, font/*)
-            for (String prefix : BINARY_CONTENT_TYPE_PREFIXES) {
-                if (lower.startsWith(prefix)) {
-                    return true;
-                }
-            }
+    private void saveJournalPreferences() {
+        Preferences preferences = api.persistence().preferences();
+        preferences.setBoolean(PREF_JOURNAL_ENABLED, journalEnabled);
+        preferences.setString(PREF_JOURNAL_DIRECTORY, journalDirectory);
+        preferences.setInteger(PREF_JOURNAL_COMPACTION, journalCompactionThreshold);
+    }
 
-            // 특정 바이너리 타입 체크
-            for (String binaryType : BINARY_CONTENT_TYPES) {
-                if (lower.contains(binaryType)) {
-                    return true;
-                }
-            }
-            return false;
+    // 저장 폴더의 스냅샷/저널을 저장소에 재생하고 이후 변경을 기록
+    private void openJournal() {
+        if (!journalEnabled || journalDirectory.isEmpty()) {
+            return;
         }
-
-        private boolean isSensitiveParameter(String paramName) {
-            if (!enableSensitiveFilter || paramName == null) {
-                return false;
-            }
-            String lowerName = paramName.toLowerCase();
-            for (String keyword : sensitiveKeywords) {
-                if (lowerName.contains(keyword.toLowerCase())) {
-                    return true;
-                }
-            }
-            return false;
+        ParameterJournal opened = new ParameterJournal(parameterStore, Path.of(journalDirectory),
+            journalCompactionThreshold, api.logging()::logToOutput, api.logging()::logToError);
+        try {
+            long replayed = opened.replay();
+            opened.start();
+            journal = opened;
+            api.logging().logToOutput("[Parameter Collector] 저널 복원 완료: " + replayed + "개 기록 ("
+                + journalDirectory + ")");
+        } catch (IOException e) {
+            opened.close();
+            api.logging().logToError("[Parameter Collector] 저널 열기 실패: " + e.getMessage());
         }
+    }
 
-        // === URL 파라미터 추출 ===
-
-        private void extractParametersFromUrl(String url) {
-            Pattern pattern = Pattern.compile("[?&]([^=&]+)=([^&]*)");
-            Matcher matcher = pattern.matcher(url);
-            while (matcher.find()) {
-                String paramName = matcher.group(1);
-                String paramValue = matcher.group(2);
-                addParameterValue(paramName, paramValue);
-            }
-        }
-
-        // === Body 파라미터 추출 (Content-Type 기반 분기) ===
-
-        private void extractParametersFromBody(String body, String contentType) {
-            if (body == null || body.trim().isEmpty()) {
-                return;
-            }
-
-            if (contentType.contains("application/json")) {
-                extractJsonParameters(body);
-            } else if (contentType.contains("multipart/form-data")) {
-                extractMultipartParameters(body, contentType);
-            } else {
-                // 기본값: form-urlencoded 또는 알 수 없는 타입
-                extractFormUrlEncoded(body);
-            }
+    private void closeJournal() {
+        ParameterJournal current = journal;
+        if (current == null) {
+            return;
         }
+        journal = null;
+        current.close();
+    }
 
-        private void extractFormUrlEncoded(String body) {
-            Pattern pattern = Pattern.compile("([^=&]+)=([^&]*)");
-            Matcher matcher = pattern.matcher(body);
-            while (matcher.find()) {
-                String paramName = matcher.group(1);
-                String paramValue = matcher.group(2);
-                addParameterValue(paramName, paramValue);
-            }
-        }
+    // 현재 설정으로 추출기 설정 만들기 (민감 키워드는 여기서 컴파일)
+    private ExtractionSettings extractionSettings() {
+        return new ExtractionSettings(maxParamNameLength, maxParamValueLength, enableSensitiveFilter,
+            KeywordMatcher.compile(sensitiveKeywords), jsonExtractor, responseMaxBytes);
+    }
 
-        // === JSON 파싱 ===
+    private class HttpHandler implements burp.api.montoya.http.handler.HttpHandler {
 
-        private void extractJsonParameters(String body) {
-            if (body == null || body.trim().isEmpty()) {
-                return;
-            }
+        @Override
+        public RequestToBeSentAction handleHttpRequestToBeSent(HttpRequestToBeSent requestToBeSent) {
+            // 확장이 Burp 스레드에서 쓰는 시간 (동기 추출이면 추출 시간 포함)
+            long start = System.nanoTime();
+            ingestionMetrics.onRequest();
             try {
-                JsonElement element = JsonParser.parseString(body);
-                extractJsonElement("", element);
-            } catch (Exception e) {
-                api.logging().logToError("[Parameter Collector] JSON 파싱 실패: " + e.getMessage());
-            }
-        }
-
-        private void extractJsonElement(String prefix, JsonElement element) {
-            if (element == null || element.isJsonNull()) {
-                return;
-            }
+                String contentType = getContentType(requestToBeSent);
 
-            if (element.isJsonObject()) {
-                JsonObject obj = element.getAsJsonObject();
-                for (Map.Entry<String, JsonElement> entry : obj.entrySet()) {
-                    String key = prefix.isEmpty() ? entry.getKey() : prefix + "." + entry.getKey();
-                    extractJsonElement(key, entry.getValue());
+                // 바이너리 요청은 스킵
+                if (ParameterExtractor.isBinaryContentType(contentType)) {
+                    return RequestToBeSentAction.continueWith(requestToBeSent);
                 }
-            } else if (element.isJsonArray()) {
-                JsonArray array = element.getAsJsonArray();
-                for (int i = 0; i < array.size(); i++) {
-                    String key = prefix + "[" + i + "]";
-                    extractJsonElement(key, array.get(i));
-                }
-            } else if (element.isJsonPrimitive()) {
-                String value = element.getAsString();
-                addParameterValue(prefix, value);
-            }
-        }
-
-        // === Multipart 파싱 ===
-
-        private void extractMultipartParameters(String body, String contentType) {
-            String boundary = extractBoundary(contentType);
-            if (boundary == null || body == null) {
-                return;
-            }
 
-            String[] parts = body.split("--" + Pattern.quote(boundary));
-            for (String part : parts) {
-                if (part.trim().isEmpty() || part.trim().equals("--")) {
-                    continue;
+                IngestionGate.Decision decision = admit(requestToBeSent.toolSource().toolType(), requestToBeSent, false);
+                if (decision != IngestionGate.Decision.ADMIT) {
+                    ingestionMetrics.onSkipped(decision);
+                    return RequestToBeSentAction.continueWith(requestToBeSent);
                 }
-                parseMultipartPart(part);
-            }
-        }
 
-        private String extractBoundary(String contentType) {
-            Pattern pattern = Pattern.compile("boundary=([^;\\s]+)", Pattern.CASE_INSENSITIVE);
-            Matcher matcher = pattern.matcher(contentType);
-            if (matcher.find()) {
-                String boundary = matcher.group(1).trim();
-                // 따옴표 제거
-                if (boundary.startsWith("\"") && boundary.endsWith("\"")) {
-                    boundary = boundary.substring(1, boundary.length() - 1);
+                // 핸들러 스레드에서는 필요한 값만 복사하고 바로 반환
+                RequestSnapshot snapshot = createSnapshot(requestToBeSent, contentType);
+                if (asyncExtractionEnabled) {
+                    extractionPipeline.submit(() -> parameterExtractor.extractParameters(snapshot));
+                } else {
+                    parameterExtractor.extractParameters(snapshot);
                 }
-                return boundary;
+
+                return RequestToBeSentAction.continueWith(requestToBeSent);
+            } finally {
+                ingestionMetrics.record(IngestionMetrics.Stage.HANDLER, start);
             }
-            return null;
         }
 
-        private void parseMultipartPart(String part) {
-            Pattern dispositionPattern = Pattern.compile(
-                "Content-Disposition:\\s*form-data;\\s*name=\"([^\"]+)\"(?:;\\s*filename=\"([^\"]+)\")?",
-                Pattern.CASE_INSENSITIVE
-            );
-            Matcher matcher = dispositionPattern.matcher(part);
+        @Override
+        public ResponseReceivedAction handleHttpResponseReceived(HttpResponseReceived responseReceived) {
+            long start = System.nanoTime();
+            ingestionMetrics.onResponse();
+            try {
+                if (!enableResponseCollection || isResponseHostExcluded(responseReceived)) {
+                    return ResponseReceivedAction.continueWith(responseReceived);
+                }
 
-            if (matcher.find()) {
-                String name = matcher.group(1);
-                String filename = matcher.group(2);
+                IngestionGate.Decision decision = admit(responseReceived.toolSource().toolType(),
+                    responseReceived.initiatingRequest(), true);
+                if (decision != IngestionGate.Decision.ADMIT) {
+                    ingestionMetrics.onSkipped(decision);
+                    return ResponseReceivedAction.continueWith(responseReceived);
+                }
 
-                if (filename != null) {
-                    // 파일 업로드: 파일명만 기록
-                    addParameterValue(name, "[FILE: " + filename + "]");
-                } else {
-                    // 일반 필드: 값 추출
-                    // 헤더와 본문은 빈 줄로 구분
-                    int headerEnd = part.indexOf("\r\n\r\n");
-                    if (headerEnd == -1) {
-                        headerEnd = part.indexOf("\n\n");
-                    }
-                    if (headerEnd != -1) {
-                        String value = part.substring(headerEnd).trim();
-                        // Content-Type 체크 (바이너리 파트 무시)
-                        if (!isPartBinary(part)) {
-                            addParameterValue(name, value);
-                        }
+                // 요청과 마찬가지로 응답 스레드에서는 스냅샷만 만들고 추출은 워커에서
+                ResponseSnapshot snapshot = createResponseSnapshot(responseReceived);
+                if (snapshot != null) {
+                    if (asyncExtractionEnabled) {
+                        extractionPipeline.submit(() -> parameterExtractor.extractResponseParameters(snapshot));
+                    } else {
+                        parameterExtractor.extractResponseParameters(snapshot);
                     }
                 }
+
+                return ResponseReceivedAction.continueWith(responseReceived);
+            } finally {
+                ingestionMetrics.record(IngestionMetrics.Stage.HANDLER, start);
             }
         }
 
-        private boolean isPartBinary(String part) {
-            Pattern contentTypePattern = Pattern.compile(
-                "Content-Type:\\s*([^\\r\\n]+)",
-                Pattern.CASE_INSENSITIVE
+        // === 스냅샷 / 추출 ===
+
+        private RequestSnapshot createSnapshot(HttpRequestToBeSent request, String contentType) {
+            return RequestSnapshot.capture(
+                request.httpService().host(),
+                request.method(),
+                request.pathWithoutQuery(),
+                request.url(),
+                contentType,
+                new BurpByteSource(request.body()),
+                request::headerValue,
+                enableCookieCollection,
+                enableHeaderCollection ? collectableHeaders : null
             );
-            Matcher matcher = contentTypePattern.matcher(part);
-            if (matcher.find()) {
-                String partContentType = matcher.group(1).trim();
-                return isBinaryContentType(partContentType);
-            }
-            return false;
         }
 
-        // === 쿠키 추출 ===
-
-        private void extractCookieParameters(HttpRequestToBeSent request) {
-            if (!enableCookieCollection) {
-                return;
-            }
-
-            String cookieHeader = request.headerValue("Cookie");
-            if (cookieHeader == null || cookieHeader.isEmpty()) {
-                return;
-            }
-
-            String[] cookies = cookieHeader.split(";");
-            for (String cookie : cookies) {
-                String[] parts = cookie.trim().split("=", 2);
-                if (parts.length == 2) {
-                    String name = "[Cookie] " + parts[0].trim();
-                    String value = parts[1].trim();
-                    addParameterValue(name, value);
+        // 형태는 Burp가 파싱한 파라미터명으로 (형태 중복 제외 정책인 도구에서만 계산)
+        private IngestionGate.Decision admit(ToolType toolType, HttpRequest request, boolean response) {
+            String host = request.httpService().host();
+            return ingestionGate.check(IngestionGate.Tool.of(toolType.name()), host, request::isInScope, () -> {
+                List<ParsedHttpParameter> parameters = request.parameters();
+                String[] names = new String[parameters.size()];
+                for (int i = 0; i < names.length; i++) {
+                    names[i] = parameters.get(i).name();
                 }
-            }
+                int endpoint = parameterContexts.endpoint(host, request.method(), request.pathWithoutQuery());
+                return IngestionGate.shapeOf(endpoint, response, names);
+            });
         }
 
-        // === 인증 헤더 추출 ===
-
-        private void extractHeaderParameters(HttpRequestToBeSent request) {
-            if (!enableHeaderCollection) {
-                return;
-            }
-
-            // Authorization 헤더 처리
-            String authHeader = request.headerValue("Authorization");
-            if (authHeader != null && !authHeader.isEmpty()) {
-                String[] parts = authHeader.split("\\s+", 2);
-                if (parts.length == 2) {
-                    addParameterValue("[Header] Authorization-Type", parts[0]);
-                    addParameterValue("[Header] Authorization-Value", parts[1]);
-                } else {
-                    addParameterValue("[Header] Authorization", authHeader);
-                }
-            }
+        private boolean isResponseHostExcluded(HttpResponseReceived response) {
+            return !responseExcludedHosts.isEmpty()
+                && responseExcludedHosts.contains(response.initiatingRequest().httpService().host().toLowerCase());
+        }
 
-            // 커스텀 인증 헤더들
-            for (String headerName : collectableHeaders) {
-                if (headerName.equalsIgnoreCase("Authorization")) {
-                    continue; // 이미 처리함
-                }
-                String headerValue = request.headerValue(headerName);
-                if (headerValue != null && !headerValue.isEmpty()) {
-                    addParameterValue("[Header] " + headerName, headerValue);
+        // 수집할 것이 없으면 null
+        private ResponseSnapshot createResponseSnapshot(HttpResponseReceived response) {
+            List<String> setCookieHeaders = new ArrayList<>();
+            if (enableCookieCollection) {
+                for (HttpHeader header : response.headers()) {
+                    if (header.name().equalsIgnoreCase("Set-Cookie")) {
+                        setCookieHeaders.add(header.value());
+                    }
                 }
             }
+            HttpRequest request = response.initiatingRequest();
+            return ResponseSnapshot.capture(request.httpService().host(), request.method(), request.pathWithoutQuery(),
+                response.headerValue("Content-Type"), new BurpByteSource(response.body()), setCookieHeaders,
+                responseMaxBytes);
         }
 
-        // === 파라미터 저장 ===
-
-        private void addParameterValue(String paramName, String paramValue) {
-            // 민감 파라미터 체크
-            if (isSensitiveParameter(paramName)) {
-                return;
-            }
+        // === 유틸리티 메서드 ===
 
-            if (paramName.length() > maxParamNameLength) {
-                paramName = paramName.substring(0, maxParamNameLength) + "...";
-            }
-            if (paramValue.length() > maxParamValueLength) {
-                paramValue = paramValue.substring(0, maxParamValueLength) + "...";
-            }
-            CopyOnWriteArrayList<String> values = parameterValues.computeIfAbsent(paramName, k -> new CopyOnWriteArrayList<>());
-            // 중복 체크 후 추가
-            if (!values.contains(paramValue)) {
-                values.add(paramValue);
-                updateResultTabs();
-
-                // 자동 내보내기 수행
-                if (autoExportEnabled && !autoExportPath.isEmpty()) {
-                    // 별도 스레드에서 실행하여 성능 영향 최소화
-                    new Thread(() -> performAutoExport()).start();
-                }
-            }
+        // 원본 대소문자 유지 (multipart boundary는 대소문자를 구분)
+        private String getContentType(HttpRequestToBeSent request) {
+            String contentType = request.headerValue("Content-Type");
+            return contentType != null ? contentType : "";
         }
     }
 
@@ -774,142 +1197,157 @@ public class ParameterCollector implements BurpExtension {
         }
     }
     
-    private void exportToJson() {
+    private void exportParameters() {
         JFileChooser fileChooser = new JFileChooser();
-        fileChooser.setFileFilter(new FileNameExtensionFilter("JSON files", "json"));
+        FileNameExtensionFilter jsonFilter = new FileNameExtensionFilter("JSON (*.json, *.json.gz)", "json", "gz");
+        fileChooser.addChoosableFileFilter(jsonFilter);
+        fileChooser.addChoosableFileFilter(new FileNameExtensionFilter("NDJSON (*.ndjson, *.ndjson.gz)", "ndjson", "jsonl", "gz"));
+        fileChooser.addChoosableFileFilter(new FileNameExtensionFilter("CSV (*.csv, *.csv.gz)", "csv", "gz"));
+        fileChooser.setFileFilter(jsonFilter);
         fileChooser.setSelectedFile(new File("parameters.json"));
-        
-        int result = fileChooser.showSaveDialog(null);
-        if (result == JFileChooser.APPROVE_OPTION) {
-            File file = fileChooser.getSelectedFile();
-            if (!file.getName().endsWith(".json")) {
-                file = new File(file.getAbsolutePath() + ".json");
-            }
-            
-            try {
-                JsonArray exportData = createExportData();
-                JsonArray existingData = new JsonArray();
-                
-                // 기존 파일이 있으면 읽어서 중복 체크
-                if (file.exists()) {
-                    try (FileReader reader = new FileReader(file)) {
-                        JsonElement element = JsonParser.parseReader(reader);
-                        if (element.isJsonArray()) {
-                            existingData = element.getAsJsonArray();
-                        }
-                    }
-                }
-                
-                // 중복되지 않는 항목만 추가
-                JsonArray mergedData = mergeJsonData(existingData, exportData);
-                
-                // 파일에 저장
-                try (FileWriter writer = new FileWriter(file)) {
-                    Gson gson = new GsonBuilder().setPrettyPrinting().create();
-                    gson.toJson(mergedData, writer);
-                }
-                
-                JOptionPane.showMessageDialog(null, "JSON 파일이 성공적으로 저장되었습니다.");
-            } catch (IOException e) {
-                JOptionPane.showMessageDialog(null, "파일 저장 중 오류 발생: " + e.getMessage(), "오류", JOptionPane.ERROR_MESSAGE);
-            }
+        if (fileChooser.showSaveDialog(null) != JFileChooser.APPROVE_OPTION) {
+            return;
         }
-    }
-    
-    private JsonArray createExportData() {
-        JsonArray result = new JsonArray();
-        for (Map.Entry<String, CopyOnWriteArrayList<String>> entry : parameterValues.entrySet()) {
-            if (!filterKeyword.isEmpty() && !entry.getKey().contains(filterKeyword)) continue;
-            JsonObject paramObj = new JsonObject();
-            paramObj.addProperty("name", entry.getKey());
-            JsonArray valuesArray = new JsonArray();
-            for (String value : entry.getValue()) {
-                if (!filterKeyword.isEmpty() && !value.contains(filterKeyword)) continue;
-                valuesArray.add(value);
-            }
-            paramObj.add("values", valuesArray);
-            result.add(paramObj);
+
+        // 확장자가 없으면 고른 형식의 확장자를 붙인다
+        File file = fileChooser.getSelectedFile();
+        String lowerName = file.getName().toLowerCase();
+        if (!lowerName.endsWith(".json") && !lowerName.endsWith(".ndjson") && !lowerName.endsWith(".jsonl")
+                && !lowerName.endsWith(".csv") && !lowerName.endsWith(".gz")) {
+            String description = fileChooser.getFileFilter().getDescription();
+            ParameterExporter.Format chosen = description.startsWith("NDJSON") ? ParameterExporter.Format.NDJSON
+                : description.startsWith("CSV") ? ParameterExporter.Format.CSV : ParameterExporter.Format.JSON;
+            file = new File(file.getAbsolutePath() + "." + chosen.extension());
         }
-        return result;
-    }
-    
-    private JsonArray mergeJsonData(JsonArray existing, JsonArray newData) {
-        Map<String, CopyOnWriteArrayList<String>> mergedMap = new HashMap<>();
-        
-        // 기존 데이터를 맵에 추가
-        for (JsonElement element : existing) {
-            JsonObject obj = element.getAsJsonObject();
-            String name = obj.get("name").getAsString();
-            JsonArray values = obj.get("values").getAsJsonArray();
-            CopyOnWriteArrayList<String> valueList = mergedMap.computeIfAbsent(name, k -> new CopyOnWriteArrayList<>());
-            for (JsonElement value : values) {
-                String val = value.getAsString();
-                if (!valueList.contains(val)) {
-                    valueList.add(val);
-                }
-            }
+        if (file.exists() && JOptionPane.showConfirmDialog(null,
+                "이미 있는 파일입니다. 덮어쓸까요?", "내보내기", JOptionPane.YES_NO_OPTION) != JOptionPane.YES_OPTION) {
+            return;
         }
-        
-        // 새 데이터를 맵에 추가 (중복 체크)
-        for (JsonElement element : newData) {
-            JsonObject obj = element.getAsJsonObject();
-            String name = obj.get("name").getAsString();
-            JsonArray values = obj.get("values").getAsJsonArray();
-            CopyOnWriteArrayList<String> valueList = mergedMap.computeIfAbsent(name, k -> new CopyOnWriteArrayList<>());
-            for (JsonElement value : values) {
-                String val = value.getAsString();
-                if (!valueList.contains(val)) {
-                    valueList.add(val);
-                }
+
+        File target = file;
+        ParameterExporter.Format format = ParameterExporter.Format.forFile(target.getName());
+        String keyword = filterKeyword;
+        ParameterExporter exporter = new ParameterExporter(parameterStore, parameterContexts);
+        BackgroundTasks.Task<Long> task = backgroundTasks.submit("내보내기", running -> {
+            long start = System.nanoTime();
+            // 진행 알림마다 취소 확인 (취소되면 임시 파일은 지워지고 기존 파일은 그대로)
+            long written = exporter.export(target.toPath(), format, keyword, (done, total) -> {
+                running.checkCancelled();
+                running.progress(done, total, String.format("%,d / %,d", done, total));
+            });
+            long millis = (System.nanoTime() - start) / 1_000_000;
+            api.logging().logToOutput("[Parameter Collector] 내보내기 완료: " + target
+                + " (" + written + "개, " + millis + "ms)");
+            return written;
+        }, this::showTransferProgress, outcome -> {
+            finishTransfer();
+            if (outcome.succeeded()) {
+                JOptionPane.showMessageDialog(null, String.format("%,d개 값을 저장했습니다.", outcome.value()));
+            } else if (outcome.error() != null) {
+                JOptionPane.showMessageDialog(null, "파일 저장 중 오류 발생: " + outcome.errorMessage(), "오류", JOptionPane.ERROR_MESSAGE);
+            } else {
+                api.logging().logToOutput("[Parameter Collector] 내보내기 취소: " + target);
             }
+        });
+        startTransfer(task);
+    }
+
+    // 여러 파일(JSON/NDJSON/CSV, gzip 가능)을 병렬로 읽어 현재 저장소에 합친다
+    private void importParameters() {
+        JFileChooser fileChooser = new JFileChooser();
+        fileChooser.setMultiSelectionEnabled(true);
+        fileChooser.setFileFilter(new FileNameExtensionFilter(
+            "내보낸 파라미터 (*.json, *.ndjson, *.jsonl, *.csv, *.gz)", "json", "ndjson", "jsonl", "csv", "gz"));
+        if (fileChooser.showOpenDialog(null) != JFileChooser.APPROVE_OPTION) {
+            return;
         }
-        
-        // 맵을 다시 JsonArray로 변환
-        JsonArray result = new JsonArray();
-        for (Map.Entry<String, CopyOnWriteArrayList<String>> entry : mergedMap.entrySet()) {
-            JsonObject paramObj = new JsonObject();
-            paramObj.addProperty("name", entry.getKey());
-            JsonArray valuesArray = new JsonArray();
-            for (String value : entry.getValue()) {
-                valuesArray.add(value);
-            }
-            paramObj.add("values", valuesArray);
-            result.add(paramObj);
+        List<Path> files = Arrays.stream(fileChooser.getSelectedFiles()).map(File::toPath).collect(Collectors.toList());
+        if (files.isEmpty()) {
+            return;
         }
-        
-        return result;
-    }
-    
-    private void performAutoExport() {
-        synchronized (autoExportLock) {
-            try {
-                File file = new File(autoExportPath);
-                JsonArray exportData = createExportData();
-                JsonArray existingData = new JsonArray();
-                
-                // 기존 파일이 있으면 읽어서 중복 체크
-                if (file.exists()) {
-                    try (FileReader reader = new FileReader(file)) {
-                        JsonElement element = JsonParser.parseReader(reader);
-                        if (element.isJsonArray()) {
-                            existingData = element.getAsJsonArray();
-                        }
-                    }
-                }
-                
-                // 중복되지 않는 항목만 추가
-                JsonArray mergedData = mergeJsonData(existingData, exportData);
-                
-                // 파일에 저장
-                try (FileWriter writer = new FileWriter(file)) {
-                    Gson gson = new GsonBuilder().setPrettyPrinting().create();
-                    gson.toJson(mergedData, writer);
+
+        ParameterImporter importer = new ParameterImporter(parameterExtractor, parameterContexts);
+        BackgroundTasks.Task<ImportReport> task = backgroundTasks.submit("가져오기", running -> {
+            long start = System.nanoTime();
+            // 취소하면 파일별 하위 작업까지 인터럽트되고, 그 전까지 합친 값은 남는다
+            ParameterImporter.Result result = importer.importFiles(files,
+                Runtime.getRuntime().availableProcessors(), (read, total) ->
+                    running.progress(read, total, String.format("%,d / %,d MB", read >> 20, total >> 20)));
+            long millis = (System.nanoTime() - start) / 1_000_000;
+            StringBuilder message = new StringBuilder(String.format(
+                "새 값 %,d개, 건너뜀 %,d개 (중복/민감/샘플링, 파일 %d개, %,dms)", result.merged(), result.skipped(),
+                result.files().size(), millis));
+            for (ParameterImporter.FileResult file : result.files()) {
+                if (file.error() != null) {
+                    message.append("\n실패: ").append(file.file().getFileName()).append(" - ").append(file.error());
                 }
-                
-                api.logging().logToOutput("[Parameter Collector] 자동 내보내기 완료: " + autoExportPath);
-            } catch (IOException e) {
-                api.logging().logToError("[Parameter Collector] 자동 내보내기 실패: " + e.getMessage());
             }
+            api.logging().logToOutput("[Parameter Collector] 가져오기 완료: " + message);
+            return new ImportReport(message.toString(), result.failedFiles() > 0);
+        }, this::showTransferProgress, outcome -> {
+            finishTransfer();
+            refreshResultTabs();
+            if (outcome.succeeded()) {
+                ImportReport report = outcome.value();
+                JOptionPane.showMessageDialog(null, report.message(), "가져오기",
+                    report.hasFailures() ? JOptionPane.WARNING_MESSAGE : JOptionPane.INFORMATION_MESSAGE);
+            } else if (outcome.error() != null) {
+                JOptionPane.showMessageDialog(null, "가져오기 중 오류 발생: " + outcome.errorMessage(), "오류", JOptionPane.ERROR_MESSAGE);
+            } else {
+                api.logging().logToOutput("[Parameter Collector] 가져오기 취소");
+            }
+        });
+        startTransfer(task);
+    }
+
+    // 가져오기 결과 안내 (파일 하나라도 실패하면 경고로 표시)
+    private record ImportReport(String message, boolean hasFailures) {
+    }
+
+    // EDT
+    private void startTransfer(BackgroundTasks.Task<?> task) {
+        transferTask = task;
+        exportButton.setEnabled(false);
+        importButton.setEnabled(false);
+        transferProgress.setValue(0);
+        transferProgress.setString("0");
+        transferProgress.setVisible(true);
+        cancelTransferButton.setVisible(true);
+        transferProgress.getParent().revalidate();
+    }
+
+    // EDT
+    private void showTransferProgress(long done, long total, String text) {
+        transferProgress.setValue(total == 0 ? 0 : (int) Math.min(100, done * 100 / total));
+        transferProgress.setString(text);
+    }
+
+    // EDT
+    private void finishTransfer() {
+        transferTask = null;
+        transferProgress.setVisible(false);
+        cancelTransferButton.setVisible(false);
+        transferProgress.getParent().revalidate();
+        exportButton.setEnabled(true);
+        importButton.setEnabled(true);
+    }
+
+    // Burp ByteArray를 복사 없이 ByteSource로 노출
+    private static final class BurpByteSource implements ByteSource {
+        private final ByteArray bytes;
+
+        private BurpByteSource(ByteArray bytes) {
+            this.bytes = bytes;
+        }
+
+        @Override
+        public int length() {
+            return bytes.length();
+        }
+
+        @Override
+        public byte byteAt(int index) {
+            return bytes.getByte(index);
         }
     }
-} 
\ No newline at end of file
+}
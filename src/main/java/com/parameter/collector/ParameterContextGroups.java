@@ -0,0 +1,171 @@
+package com.parameter.collector;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+// 호스트/엔드포인트별 엔트리 ID 목록 (EDT 전용)
+// - 저장소에 새로 들어온 엔트리만 catchUp()에서 이어서 분류하므로 범위를 바꿔도 전체를 다시 훑지 않는다
+// - 삭제된 엔트리는 목록에 남아 있고 읽는 쪽에서 isLive()로 거른다
+final class ParameterContextGroups {
+    private final ParameterStore store;
+    private final ParameterContexts contexts;
+
+    // 번호 -> 오름차순 엔트리 ID 목록
+    private int[][] hostPostings = new int[16][];
+    private int[] hostSizes = new int[16];
+    private int[][] endpointPostings = new int[64][];
+    private int[] endpointSizes = new int[64];
+
+    private int indexedLimit;
+
+    ParameterContextGroups(ParameterStore store, ParameterContexts contexts) {
+        this.store = store;
+        this.contexts = contexts;
+    }
+
+    // 범위 선택: 전체, 호스트 하나, 엔드포인트 하나
+    record Scope(int hostId, int endpointId, String label) {
+        static final Scope ALL = new Scope(0, 0, "전체");
+
+        boolean isAll() {
+            return hostId == 0 && endpointId == 0;
+        }
+
+        boolean sameAs(Scope other) {
+            return hostId == other.hostId && endpointId == other.endpointId;
+        }
+
+        boolean includes(int context, ParameterContexts contexts) {
+            int endpoint = ParameterContexts.endpointOf(context);
+            if (endpointId != 0) {
+                return endpoint == endpointId;
+            }
+            return hostId == 0 || (endpoint != 0 && contexts.hostOf(endpoint) == hostId);
+        }
+
+        @Override
+        public String toString() {
+            return label;
+        }
+    }
+
+    int indexedLimit() {
+        return indexedLimit;
+    }
+
+    void catchUp() {
+        int limit = store.entryLimit();
+        for (int id = indexedLimit; id < limit; id++) {
+            int endpoint = ParameterContexts.endpointOf(store.contextAt(id));
+            if (endpoint == 0) {
+                continue;
+            }
+            appendEndpoint(endpoint, id);
+            appendHost(contexts.hostOf(endpoint), id);
+        }
+        indexedLimit = limit;
+    }
+
+    // [0, indexedLimit) 범위에서 scope에 속한 엔트리 ID (삭제된 엔트리 포함, 오름차순)
+    int[] postings(Scope scope) {
+        if (scope.endpointId() != 0) {
+            return scope.endpointId() < endpointPostings.length && endpointPostings[scope.endpointId()] != null
+                ? Arrays.copyOf(endpointPostings[scope.endpointId()], endpointSizes[scope.endpointId()])
+                : new int[0];
+        }
+        return scope.hostId() < hostPostings.length && hostPostings[scope.hostId()] != null
+            ? Arrays.copyOf(hostPostings[scope.hostId()], hostSizes[scope.hostId()])
+            : new int[0];
+    }
+
+    // 범위 목록 (전체, 호스트 이름순, 각 호스트 아래 엔드포인트 이름순). 살아 있는 값이 없는 범위는 뺀다
+    List<Scope> scopes() {
+        catchUp();
+        List<Scope> result = new ArrayList<>();
+        result.add(Scope.ALL);
+
+        List<Integer> hostIds = new ArrayList<>();
+        for (int hostId = 1; hostId < hostPostings.length; hostId++) {
+            if (hostPostings[hostId] != null) {
+                hostIds.add(hostId);
+            }
+        }
+        hostIds.sort(Comparator.comparing(contexts::hostName));
+
+        List<List<Integer>> endpointsByHost = new ArrayList<>();
+        for (int i = 0; i < hostPostings.length; i++) {
+            endpointsByHost.add(null);
+        }
+        for (int endpointId = 1; endpointId < endpointPostings.length; endpointId++) {
+            if (endpointPostings[endpointId] == null) {
+                continue;
+            }
+            int hostId = contexts.hostOf(endpointId);
+            if (endpointsByHost.get(hostId) == null) {
+                endpointsByHost.set(hostId, new ArrayList<>());
+            }
+            endpointsByHost.get(hostId).add(endpointId);
+        }
+
+        for (int hostId : hostIds) {
+            int hostLive = liveCount(hostPostings[hostId], hostSizes[hostId]);
+            if (hostLive == 0) {
+                continue;
+            }
+            String host = contexts.hostName(hostId);
+            result.add(new Scope(hostId, 0, host + " (" + hostLive + ")"));
+            List<Integer> endpointIds = endpointsByHost.get(hostId);
+            endpointIds.sort(Comparator.comparing(contexts::describe));
+            for (int endpointId : endpointIds) {
+                int live = liveCount(endpointPostings[endpointId], endpointSizes[endpointId]);
+                if (live > 0) {
+                    result.add(new Scope(hostId, endpointId,
+                        "    " + contexts.describe(endpointId) + " (" + live + ")"));
+                }
+            }
+        }
+        return result;
+    }
+
+    private int liveCount(int[] ids, int size) {
+        int live = 0;
+        for (int i = 0; i < size; i++) {
+            if (store.isLive(ids[i])) {
+                live++;
+            }
+        }
+        return live;
+    }
+
+    private void appendEndpoint(int endpointId, int id) {
+        if (endpointId >= endpointPostings.length) {
+            int length = Math.max(endpointPostings.length * 2, endpointId + 1);
+            endpointPostings = Arrays.copyOf(endpointPostings, length);
+            endpointSizes = Arrays.copyOf(endpointSizes, length);
+        }
+        endpointPostings[endpointId] = append(endpointPostings[endpointId], endpointSizes[endpointId], id);
+        endpointSizes[endpointId]++;
+    }
+
+    private void appendHost(int hostId, int id) {
+        if (hostId >= hostPostings.length) {
+            int length = Math.max(hostPostings.length * 2, hostId + 1);
+            hostPostings = Arrays.copyOf(hostPostings, length);
+            hostSizes = Arrays.copyOf(hostSizes, length);
+        }
+        hostPostings[hostId] = append(hostPostings[hostId], hostSizes[hostId], id);
+        hostSizes[hostId]++;
+    }
+
+    private static int[] append(int[] ids, int size, int id) {
+        if (ids == null) {
+            ids = new int[8];
+        } else if (size == ids.length) {
+            ids = Arrays.copyOf(ids, size * 2);
+        }
+        ids[size] = id;
+        return ids;
+    }
+}
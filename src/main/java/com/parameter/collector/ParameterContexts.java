@@ -0,0 +1,152 @@
+package com.parameter.collector;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+// 수집 값의 발견 위치 사전 (여러 추출 워커에서 동시에 사용)
+// - (호스트, 메서드, 경로 템플릿)마다 엔드포인트 번호, 호스트마다 호스트 번호를 1부터 발급
+//   경로는 PathTemplates로 정규화해 ID가 들어간 경로가 엔드포인트를 늘리지 않게 한다
+// - 저장소에는 값마다 int 하나만 남긴다: 엔드포인트 번호 << SOURCE_BITS | 출처 (0 = 알 수 없음)
+final class ParameterContexts {
+    static final int SOURCE_BITS = 4;
+    private static final int SOURCE_MASK = (1 << SOURCE_BITS) - 1;
+    // 엔드포인트가 이보다 많아지면 새 엔드포인트는 0(알 수 없음)으로 기록
+    private static final int MAX_ENDPOINTS = (1 << (31 - SOURCE_BITS)) - 1;
+
+    enum Source {
+        UNKNOWN("-"),
+        QUERY("쿼리"),
+        FORM("폼"),
+        JSON("JSON"),
+        MULTIPART("멀티파트"),
+        COOKIE("쿠키"),
+        HEADER("헤더"),
+        RESPONSE_HTML("응답 HTML"),
+        RESPONSE_JSON("응답 JSON"),
+        SET_COOKIE("Set-Cookie"),
+        // 저장소/저널에 순서 번호로 남으므로 새 출처는 항상 뒤에 추가
+        XML("XML"),
+        GRAPHQL("GraphQL"),
+        TEXT("텍스트");
+
+        private static final Source[] VALUES = values();
+
+        private final String label;
+
+        Source(String label) {
+            this.label = label;
+        }
+
+        @Override
+        public String toString() {
+            return label;
+        }
+    }
+
+    private record Endpoint(int hostId, String method, String path) {
+    }
+
+    private final PathTemplates pathTemplates = new PathTemplates();
+    private final ConcurrentHashMap<String, Integer> hostIds = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Endpoint, Integer> endpointIds = new ConcurrentHashMap<>();
+
+    // 번호 -> 원래 값 (0번은 비워 둠). 배열은 락 안에서만 바꾸고 발급 개수를 나중에 공개
+    private volatile String[] hosts = new String[16];
+    private volatile Endpoint[] endpoints = new Endpoint[64];
+    private volatile int hostCount;
+    private volatile int endpointCount;
+
+    static int encode(int endpointId, Source source) {
+        return endpointId << SOURCE_BITS | source.ordinal();
+    }
+
+    static int endpointOf(int context) {
+        return context >>> SOURCE_BITS;
+    }
+
+    static Source sourceOf(int context) {
+        return Source.VALUES[context & SOURCE_MASK];
+    }
+
+    // 엔드포인트 번호 (1부터). 호스트는 소문자로 합친다
+    int endpoint(String host, String method, String path) {
+        String lowerHost = host == null ? "" : host.toLowerCase();
+        int hostId = hostId(lowerHost);
+        String template = pathTemplates.normalize(lowerHost, path);
+        Endpoint key = new Endpoint(hostId, method == null ? "" : method, template);
+        Integer id = endpointIds.get(key);
+        if (id != null) {
+            return id;
+        }
+        synchronized (this) {
+            id = endpointIds.get(key);
+            if (id != null) {
+                return id;
+            }
+            int next = endpointCount + 1;
+            if (next > MAX_ENDPOINTS) {
+                return 0;
+            }
+            if (next == endpoints.length) {
+                Endpoint[] grown = new Endpoint[next * 2];
+                System.arraycopy(endpoints, 0, grown, 0, next);
+                endpoints = grown;
+            }
+            endpoints[next] = key;
+            endpointIds.put(key, next);
+            endpointCount = next;
+            return next;
+        }
+    }
+
+    private int hostId(String host) {
+        Integer id = hostIds.get(host);
+        if (id != null) {
+            return id;
+        }
+        synchronized (this) {
+            id = hostIds.get(host);
+            if (id != null) {
+                return id;
+            }
+            int next = hostCount + 1;
+            if (next == hosts.length) {
+                String[] grown = new String[next * 2];
+                System.arraycopy(hosts, 0, grown, 0, next);
+                hosts = grown;
+            }
+            hosts[next] = host;
+            hostIds.put(host, next);
+            hostCount = next;
+            return next;
+        }
+    }
+
+    int hostCount() {
+        return hostCount;
+    }
+
+    int endpointCount() {
+        return endpointCount;
+    }
+
+    String hostName(int hostId) {
+        return hosts[hostId];
+    }
+
+    int hostOf(int endpointId) {
+        return endpointId == 0 ? 0 : endpoints[endpointId].hostId();
+    }
+
+    String host(int endpointId) {
+        return endpointId == 0 ? "" : hosts[endpoints[endpointId].hostId()];
+    }
+
+    // "메서드 경로"
+    String describe(int endpointId) {
+        if (endpointId == 0) {
+            return "";
+        }
+        Endpoint endpoint = endpoints[endpointId];
+        return endpoint.method() + " " + endpoint.path();
+    }
+}
@@ -0,0 +1,214 @@
+package com.parameter.collector;
+
+import com.google.gson.stream.JsonWriter;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+
+// 저장소를 파일로 스트리밍 내보내기 (EDT 밖에서 실행)
+// - 저장소를 직접 순회하며 바로 쓰므로 추가 메모리는 값 개수와 무관 (버퍼 크기만큼)
+// - JSON: 기존 [{"name": ..., "values": [...]}, ...] 형식 (파라미터별로 묶음)
+// - NDJSON/CSV: 값 하나당 한 줄 (엔트리 ID 순서, 발견 위치 포함)
+// - 파일명이 .gz로 끝나면 gzip으로 압축. 임시 파일에 쓴 뒤 교체해 중간에 실패해도 기존 파일은 남는다
+final class ParameterExporter {
+    private static final int BUFFER_SIZE = 1 << 16;
+    // 이 개수만큼 쓸 때마다 진행 상황 알림
+    private static final int PROGRESS_INTERVAL = 8192;
+
+    enum Format {
+        JSON("json"),
+        NDJSON("ndjson"),
+        CSV("csv");
+
+        private final String extension;
+
+        Format(String extension) {
+            this.extension = extension;
+        }
+
+        String extension() {
+            return extension;
+        }
+
+        // 파일명(.gz 제외)의 확장자로 형식 결정. 모르는 확장자면 JSON
+        static Format forFile(String fileName) {
+            String name = stripGzip(fileName.toLowerCase(Locale.ROOT));
+            if (name.endsWith(".ndjson") || name.endsWith(".jsonl")) {
+                return NDJSON;
+            }
+            if (name.endsWith(".csv")) {
+                return CSV;
+            }
+            return JSON;
+        }
+    }
+
+    @FunctionalInterface
+    interface Progress {
+        // written: 지금까지 쓴 값 개수, total: 시작 시점 저장된 값 개수 (대략)
+        void update(long written, long total);
+    }
+
+    private final ParameterStore store;
+    private final ParameterContexts contexts;
+
+    ParameterExporter(ParameterStore store, ParameterContexts contexts) {
+        this.store = store;
+        this.contexts = contexts;
+    }
+
+    static boolean isGzip(String fileName) {
+        return fileName.toLowerCase(Locale.ROOT).endsWith(".gz");
+    }
+
+    private static String stripGzip(String fileName) {
+        return isGzip(fileName) ? fileName.substring(0, fileName.length() - 3) : fileName;
+    }
+
+    // filterKeyword가 있으면 이름과 값에 모두 포함된 것만 (기존 내보내기와 같은 조건). 쓴 값 개수 반환
+    long export(Path target, Format format, String filterKeyword, Progress progress) throws IOException {
+        Path absolute = target.toAbsolutePath();
+        Path temp = Files.createTempFile(absolute.getParent(), absolute.getFileName().toString(), ".tmp");
+        long written;
+        try {
+            OutputStream out = Files.newOutputStream(temp);
+            if (isGzip(absolute.getFileName().toString())) {
+                out = new GZIPOutputStream(out, BUFFER_SIZE);
+            }
+            try (Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE)) {
+                written = switch (format) {
+                    case JSON -> writeJson(writer, filterKeyword, progress);
+                    case NDJSON -> writeRows(writer, false, filterKeyword, progress);
+                    case CSV -> writeRows(writer, true, filterKeyword, progress);
+                };
+            }
+            Files.move(temp, absolute, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        return written;
+    }
+
+    private long writeJson(Writer out, String filterKeyword, Progress progress) throws IOException {
+        long total = store.size();
+        long written = 0;
+        JsonWriter writer = new JsonWriter(out);
+        writer.setIndent("  ");
+        writer.beginArray();
+        for (ParameterStore.ValueSet values : store.parameters()) {
+            if (!filterKeyword.isEmpty() && !values.name().contains(filterKeyword)) {
+                continue;
+            }
+            writer.beginObject();
+            writer.name("name").value(values.name());
+            writer.name("values").beginArray();
+            for (String value : values) {
+                if (!filterKeyword.isEmpty() && !value.contains(filterKeyword)) {
+                    continue;
+                }
+                writer.value(value);
+                if (++written % PROGRESS_INTERVAL == 0) {
+                    progress.update(written, total);
+                }
+            }
+            writer.endArray();
+            writer.endObject();
+        }
+        writer.endArray();
+        writer.flush();
+        progress.update(written, total);
+        return written;
+    }
+
+    // 값 하나당 한 줄: name, value, host, endpoint, source
+    private long writeRows(Writer out, boolean csv, String filterKeyword, Progress progress) throws IOException {
+        long total = store.size();
+        long written = 0;
+        if (csv) {
+            out.write("name,value,host,endpoint,source\r\n");
+        }
+        // JsonWriter는 버퍼 없이 out에 바로 쓴다. 최상위 값을 여러 개 쓰려면 lenient, 줄바꿈은 직접
+        JsonWriter json = null;
+        if (!csv) {
+            json = new JsonWriter(out);
+            json.setLenient(true);
+        }
+        int limit = store.entryLimit();
+        for (int id = 0; id < limit; id++) {
+            String value = store.valueAt(id);
+            if (value == null) {
+                continue;
+            }
+            String name = store.nameAt(id);
+            if (!filterKeyword.isEmpty() && (!name.contains(filterKeyword) || !value.contains(filterKeyword))) {
+                continue;
+            }
+            int context = store.contextAt(id);
+            int endpoint = ParameterContexts.endpointOf(context);
+            String host = contexts.host(endpoint);
+            String where = contexts.describe(endpoint);
+            ParameterContexts.Source source = ParameterContexts.sourceOf(context);
+            if (csv) {
+                writeCsvField(out, name);
+                out.write(',');
+                writeCsvField(out, value);
+                out.write(',');
+                writeCsvField(out, host);
+                out.write(',');
+                writeCsvField(out, where);
+                out.write(',');
+                out.write(source.name());
+                out.write("\r\n");
+            } else {
+                json.beginObject();
+                json.name("name").value(name);
+                json.name("value").value(value);
+                if (endpoint != 0) {
+                    json.name("host").value(host);
+                    json.name("endpoint").value(where);
+                }
+                json.name("source").value(source.name());
+                json.endObject();
+                out.write('\n');
+            }
+            if (++written % PROGRESS_INTERVAL == 0) {
+                progress.update(written, total);
+            }
+        }
+        progress.update(written, total);
+        return written;
+    }
+
+    // RFC 4180: 쉼표/따옴표/줄바꿈이 있으면 따옴표로 감싸고 따옴표는 두 번
+    private static void writeCsvField(Writer out, String field) throws IOException {
+        boolean quote = false;
+        for (int i = 0; i < field.length() && !quote; i++) {
+            char c = field.charAt(i);
+            quote = c == ',' || c == '"' || c == '\r' || c == '\n';
+        }
+        if (!quote) {
+            out.write(field);
+            return;
+        }
+        out.write('"');
+        int start = 0;
+        for (int i = 0; i < field.length(); i++) {
+            if (field.charAt(i) == '"') {
+                out.write(field, start, i + 1 - start);
+                out.write('"');
+                start = i + 1;
+            }
+        }
+        out.write(field, start, field.length() - start);
+        out.write('"');
+    }
+}
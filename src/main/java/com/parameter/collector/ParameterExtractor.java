@@ -0,0 +1,388 @@
+package com.parameter.collector;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.function.Consumer;
+
+// 요청/응답 스냅샷에서 파라미터를 뽑아 저장하는 추출기 (Burp API에 의존하지 않음)
+// - HttpHandler는 Burp 객체에서 스냅샷만 만들고 여기로 넘긴다 (벤치마크/헤드리스 실행에서도 그대로 사용)
+// - 여러 추출 워커에서 동시에 호출된다. 설정은 ExtractionSettings를 통째로 바꿔 반영
+class ParameterExtractor {
+    private final ParameterStatistics statistics;
+    private final ParameterContexts contexts;
+    private final IngestionMetrics metrics;
+    // 새 값이 저장될 때마다 (자동 내보내기 알림 등)
+    private final Runnable onStored;
+    private final Consumer<String> errorLog;
+    private final BodyExtractors bodyExtractors = new BodyExtractors();
+    private volatile ExtractionSettings settings;
+
+    ParameterExtractor(ParameterStatistics statistics, ParameterContexts contexts, IngestionMetrics metrics,
+                       ExtractionSettings settings, Runnable onStored, Consumer<String> errorLog) {
+        this.statistics = statistics;
+        this.contexts = contexts;
+        this.metrics = metrics;
+        this.settings = settings;
+        this.onStored = onStored;
+        this.errorLog = errorLog;
+        registerBuiltInBodyExtractors();
+    }
+
+    // 기본 본문 추출기 (Content-Type이 없으면 기존처럼 form-urlencoded로 본다)
+    private void registerBuiltInBodyExtractors() {
+        BodyExtractors.Registration form = new BodyExtractors.Registration(
+            (body, type, sink) -> extractFormUrlEncoded(body, sink),
+            ParameterContexts.Source.FORM, IngestionMetrics.Stage.FORM);
+        BodyExtractors.Registration json = new BodyExtractors.Registration(
+            (body, type, sink) -> readJson(body, GraphQlScanner.withInlineArguments(sink)),
+            ParameterContexts.Source.JSON, IngestionMetrics.Stage.JSON);
+        BodyExtractors.Registration multipart = new BodyExtractors.Registration(
+            (body, type, sink) -> extractMultipartParameters(body, type.raw(), sink),
+            ParameterContexts.Source.MULTIPART, IngestionMetrics.Stage.MULTIPART);
+        BodyExtractors.Registration xml = new BodyExtractors.Registration(
+            (body, type, sink) -> XmlParameterScanner.scan(body.asLatin1Reader(), sink),
+            ParameterContexts.Source.XML, IngestionMetrics.Stage.XML);
+        BodyExtractors.Registration graphQl = new BodyExtractors.Registration(
+            this::extractGraphQl, ParameterContexts.Source.GRAPHQL, IngestionMetrics.Stage.GRAPHQL);
+        BodyExtractors.Registration text = new BodyExtractors.Registration(
+            (body, type, sink) -> extractKeyValueLines(body.asLatin1(), sink),
+            ParameterContexts.Source.TEXT, IngestionMetrics.Stage.TEXT);
+
+        bodyExtractors.registerFallback(form);
+        bodyExtractors.register("application/x-www-form-urlencoded", form);
+        bodyExtractors.register("application/json", json);
+        bodyExtractors.register("text/json", json);
+        bodyExtractors.registerSuffix("json", json);
+        bodyExtractors.register("multipart/form-data", multipart);
+        bodyExtractors.register("application/xml", xml);
+        bodyExtractors.register("text/xml", xml);
+        bodyExtractors.registerSuffix("xml", xml);
+        bodyExtractors.register("application/graphql", graphQl);
+        bodyExtractors.register("application/graphql+json", graphQl);
+        bodyExtractors.register("text/plain", text);
+    }
+
+    // 다른 Content-Type용 추출기 등록 (같은 타입이 있으면 교체)
+    void registerBodyExtractor(String essence, BodyExtractors.Registration registration) {
+        bodyExtractors.register(essence, registration);
+    }
+
+    void configure(ExtractionSettings settings) {
+        this.settings = settings;
+    }
+
+    ExtractionSettings settings() {
+        return settings;
+    }
+
+    // === 응답 ===
+
+    void extractResponseParameters(ResponseSnapshot snapshot) {
+        long start = System.nanoTime();
+        try {
+            extractResponseBody(snapshot);
+        } finally {
+            metrics.record(IngestionMetrics.Stage.RESPONSE, start);
+        }
+    }
+
+    private void extractResponseBody(ResponseSnapshot snapshot) {
+        int endpoint = contexts.endpoint(snapshot.host(), snapshot.method(), snapshot.path());
+
+        // Set-Cookie: 첫 번째 name=value 쌍만 쿠키로 수집
+        ParameterSink setCookieSink = sinkFor(endpoint, ParameterContexts.Source.SET_COOKIE);
+        for (String setCookie : snapshot.setCookieHeaders()) {
+            int semicolon = setCookie.indexOf(';');
+            extractCookieParameters(semicolon < 0 ? setCookie : setCookie.substring(0, semicolon), setCookieSink);
+        }
+
+        ByteSource body = snapshot.body();
+        if (body == null || isBlank(body)) {
+            return;
+        }
+        if (MediaType.parse(snapshot.contentType()).isJson()) {
+            extractJsonParameters(body, sinkFor(endpoint, ParameterContexts.Source.RESPONSE_JSON));
+        } else {
+            // HTML은 앞부분 responseMaxBytes까지만 훑는다
+            HtmlParameterScanner.scan(body.asLatin1(), Math.min(body.length(), settings.responseMaxBytes()),
+                sinkFor(endpoint, ParameterContexts.Source.RESPONSE_HTML));
+        }
+    }
+
+    // === 요청 ===
+
+    void extractParameters(RequestSnapshot snapshot) {
+        int endpoint = contexts.endpoint(snapshot.host(), snapshot.method(), snapshot.path());
+
+        // 단계별 시간은 그 단계에서 찾은 값의 저장소 추가 시간을 포함
+        // URL 파라미터 추출
+        long start = System.nanoTime();
+        extractParametersFromUrl(snapshot.url(), sinkFor(endpoint, ParameterContexts.Source.QUERY));
+        metrics.record(IngestionMetrics.Stage.URL, start);
+
+        // Body 파라미터 추출 (Content-Type 기반 분기)
+        extractParametersFromBody(snapshot.body(), snapshot.contentType(), endpoint);
+
+        // 쿠키 추출
+        if (snapshot.cookieHeader() != null && !snapshot.cookieHeader().isEmpty()) {
+            start = System.nanoTime();
+            extractCookieParameters(snapshot.cookieHeader(), sinkFor(endpoint, ParameterContexts.Source.COOKIE));
+            metrics.record(IngestionMetrics.Stage.COOKIE, start);
+        }
+
+        // 인증 헤더 추출
+        if (!snapshot.headers().isEmpty()) {
+            start = System.nanoTime();
+            extractHeaderParameters(snapshot.headers(), sinkFor(endpoint, ParameterContexts.Source.HEADER));
+            metrics.record(IngestionMetrics.Stage.HEADER, start);
+        }
+    }
+
+    // 찾은 값을 발견 위치와 함께 저장하는 콜백
+    ParameterSink sinkFor(int endpoint, ParameterContexts.Source source) {
+        int context = ParameterContexts.encode(endpoint, source);
+        return (name, value) -> addParameterValue(name, value, context);
+    }
+
+    // === 유틸리티 메서드 ===
+
+    static boolean isBinaryContentType(String contentType) {
+        return MediaType.parse(contentType).isBinary();
+    }
+
+    boolean isSensitiveParameter(String paramName) {
+        ExtractionSettings current = settings;
+        if (!current.sensitiveFilterEnabled() || paramName == null) {
+            return false;
+        }
+        return current.sensitiveMatcher().matches(paramName);
+    }
+
+    // === URL 파라미터 추출 ===
+
+    void extractParametersFromUrl(String url, ParameterSink sink) {
+        QueryStringTokenizer.parseUrl(url, sink);
+    }
+
+    // === Body 파라미터 추출 (Content-Type 기반 분기) ===
+
+    private void extractParametersFromBody(ByteSource body, String rawContentType, int endpoint) {
+        if (isBlank(body)) {
+            return;
+        }
+
+        // 등록되지 않은 타입은 본문을 읽지 않음
+        MediaType mediaType = MediaType.parse(rawContentType);
+        BodyExtractors.Registration registration = bodyExtractors.lookup(mediaType);
+        if (registration == null) {
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            registration.extractor().extract(body, mediaType, sinkFor(endpoint, registration.source()));
+        } catch (Exception e) {
+            errorLog.accept(registration.stage() + " 파싱 실패: " + e.getMessage());
+        } finally {
+            metrics.record(registration.stage(), start);
+        }
+    }
+
+    // String.trim().isEmpty()와 같은 기준 (0x20 이하만 있으면 빈 본문)
+    private static boolean isBlank(ByteSource body) {
+        for (int i = 0, length = body.length(); i < length; i++) {
+            if ((body.byteAt(i) & 0xFF) > 0x20) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    void extractFormUrlEncoded(ByteSource body, ParameterSink sink) {
+        // bodyToString()과 동일하게 바이트를 그대로 문자로 보되, 본문 전체를 문자열로 만들지 않음
+        QueryStringTokenizer.parse(body.asLatin1(), sink);
+    }
+
+    // === JSON 파싱 ===
+
+    void extractJsonParameters(ByteSource body, ParameterSink sink) {
+        try {
+            readJson(body, sink);
+        } catch (Exception e) {
+            errorLog.accept("JSON 파싱 실패: " + e.getMessage());
+        }
+    }
+
+    private void readJson(ByteSource body, ParameterSink sink) throws IOException {
+        settings.jsonExtractor().extract(body.asLatin1Reader(), sink);
+    }
+
+    // === GraphQL ===
+
+    // application/graphql: 문서 그대로, application/graphql+json: {"query", "variables"} 본문
+    private void extractGraphQl(ByteSource body, MediaType type, ParameterSink sink) throws IOException {
+        CharSequence text = body.asLatin1();
+        if (isJsonEnvelope(text)) {
+            readJson(body, GraphQlScanner.withInlineArguments(sink));
+        } else {
+            GraphQlScanner.scan(text, sink);
+        }
+    }
+
+    // [ (배치) 또는 {" 로 시작하면 JSON. 선택 집합 문서 "{ user ..." 와 구분
+    private static boolean isJsonEnvelope(CharSequence text) {
+        int i = skipWhitespace(text, 0);
+        if (i >= text.length() || text.charAt(i) == '[') {
+            return i < text.length();
+        }
+        if (text.charAt(i) != '{') {
+            return false;
+        }
+        i = skipWhitespace(text, i + 1);
+        return i >= text.length() || text.charAt(i) == '"' || text.charAt(i) == '}';
+    }
+
+    private static int skipWhitespace(CharSequence text, int i) {
+        while (i < text.length() && text.charAt(i) <= ' ') {
+            i++;
+        }
+        return i;
+    }
+
+    // === text/plain ===
+
+    // 한 줄에 이름=값 하나 (enctype="text/plain" 폼). 이름에 공백이 있는 줄은 문장으로 보고 건너뜀
+    private static void extractKeyValueLines(CharSequence text, ParameterSink sink) {
+        int length = text.length();
+        int lineStart = 0;
+        while (lineStart < length) {
+            int lineEnd = lineStart;
+            while (lineEnd < length && text.charAt(lineEnd) != '\n' && text.charAt(lineEnd) != '\r') {
+                lineEnd++;
+            }
+            int equals = -1;
+            for (int i = lineStart; i < lineEnd; i++) {
+                char c = text.charAt(i);
+                if (c == '=') {
+                    equals = i;
+                    break;
+                }
+                if (c == ' ' || c == '\t') {
+                    break;
+                }
+            }
+            if (equals > lineStart) {
+                sink.accept(text.subSequence(lineStart, equals).toString(),
+                    text.subSequence(equals + 1, lineEnd).toString().trim());
+            }
+            lineStart = lineEnd + 1;
+        }
+    }
+
+    // === Multipart 파싱 ===
+
+    void extractMultipartParameters(ByteSource body, String contentType, ParameterSink sink) {
+        String boundary = MultipartScanner.boundaryOf(contentType);
+        if (boundary == null) {
+            return;
+        }
+        new MultipartScanner(boundary).scan(body, ParameterExtractor::isBinaryContentType, sink);
+    }
+
+    // === 쿠키 추출 ===
+
+    // 헤더 문자열 위에서 범위로 나누고 이름/짧은 값은 사전에서 찾는다 (split/trim 임시 문자열 없음)
+    private void extractCookieParameters(String cookieHeader, ParameterSink sink) {
+        if (cookieHeader == null || cookieHeader.isEmpty()) {
+            return;
+        }
+
+        int length = cookieHeader.length();
+        int start = 0;
+        while (start < length) {
+            int end = cookieHeader.indexOf(';', start);
+            if (end < 0) {
+                end = length;
+            }
+            int equals = cookieHeader.indexOf('=', start);
+            if (equals >= 0 && equals < end) {
+                int nameStart = trimStart(cookieHeader, start, equals);
+                int valueStart = trimStart(cookieHeader, equals + 1, end);
+                String name = StringDictionary.NAMES.intern("[Cookie] ", cookieHeader,
+                    nameStart, trimEnd(cookieHeader, nameStart, equals));
+                String value = StringDictionary.VALUES.intern(cookieHeader,
+                    valueStart, trimEnd(cookieHeader, valueStart, end));
+                sink.accept(name, value);
+            }
+            start = end + 1;
+        }
+    }
+
+    // String.trim()과 같은 기준 (0x20 이하 제거)
+    private static int trimStart(String text, int start, int end) {
+        while (start < end && text.charAt(start) <= ' ') {
+            start++;
+        }
+        return start;
+    }
+
+    private static int trimEnd(String text, int start, int end) {
+        while (end > start && text.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return end;
+    }
+
+    // === 인증 헤더 추출 ===
+
+    private void extractHeaderParameters(Map<String, String> headers, ParameterSink sink) {
+        // Authorization 헤더 처리
+        String authHeader = headers.get("Authorization");
+        if (authHeader != null) {
+            String[] parts = authHeader.split("\\s+", 2);
+            if (parts.length == 2) {
+                sink.accept("[Header] Authorization-Type", parts[0]);
+                sink.accept("[Header] Authorization-Value", parts[1]);
+            } else {
+                sink.accept("[Header] Authorization", authHeader);
+            }
+        }
+
+        // 커스텀 인증 헤더들
+        for (Map.Entry<String, String> header : headers.entrySet()) {
+            if (header.getKey().equals("Authorization")) {
+                continue; // 이미 처리함
+            }
+            String name = header.getKey();
+            sink.accept(StringDictionary.NAMES.intern("[Header] ", name, 0, name.length()),
+                StringDictionary.VALUES.intern(header.getValue()));
+        }
+    }
+
+    // === 파라미터 저장 ===
+
+    // 새로 저장되면 true (민감 파라미터, 중복, 샘플링으로 빠지면 false)
+    boolean addParameterValue(String paramName, String paramValue, int context) {
+        // 민감 파라미터 체크
+        if (isSensitiveParameter(paramName)) {
+            return false;
+        }
+
+        ExtractionSettings current = settings;
+        int rawLength = paramValue.length();
+        if (paramName.length() > current.maxNameLength()) {
+            paramName = paramName.substring(0, current.maxNameLength()) + "...";
+        }
+        if (paramValue.length() > current.maxValueLength()) {
+            paramValue = paramValue.substring(0, current.maxValueLength()) + "...";
+        }
+        // 통계 갱신 후 중복 체크/샘플링 정책에 따라 추가
+        long start = System.nanoTime();
+        boolean stored = statistics.record(paramName, paramValue, rawLength, context) >= 0;
+        metrics.record(IngestionMetrics.Stage.STORE, start);
+        metrics.onValue(stored);
+        if (stored) {
+            onStored.run();
+        }
+        return stored;
+    }
+}
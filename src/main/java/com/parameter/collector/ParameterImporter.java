@@ -0,0 +1,416 @@
+package com.parameter.collector;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongConsumer;
+import java.util.zip.GZIPInputStream;
+
+// 내보낸 파라미터 파일을 현재 저장소로 합치는 가져오기 (EDT 밖에서 실행)
+// - 파일마다 가상 스레드 하나로 스트리밍 파싱해 바로 저장소에 넣는다 (파일 전체를 메모리에 올리지 않음)
+// - 값은 수집할 때와 같은 경로(ParameterExtractor.addParameterValue)로 넣는다: 민감 파라미터 필터,
+//   이름/값 길이 제한, 통계, 샘플링이 그대로 적용되고 중복 제거는 저장소의 해시 색인이 맡는다
+// - 형식은 내용으로 판단: '[' = JSON 배열, '{' = NDJSON, 그 외 = CSV (머리글 필요). gzip은 매직 바이트로 판단
+// - 발견 위치(host/endpoint/source)가 있으면 현재 세션의 엔드포인트로 다시 등록한다
+final class ParameterImporter {
+    private static final int BUFFER_SIZE = 1 << 16;
+    // 이만큼 읽을 때마다 진행 상황 알림
+    private static final long PROGRESS_BYTES = 1 << 20;
+
+    @FunctionalInterface
+    interface Progress {
+        // 읽은 바이트 / 전체 파일 크기 (압축 파일은 압축된 크기 기준)
+        void update(long readBytes, long totalBytes);
+    }
+
+    // skipped: 저장되지 않은 값 (이미 있는 값, 민감 파라미터, 샘플링으로 빠진 값)
+    record FileResult(Path file, long merged, long skipped, String error) {
+    }
+
+    record Result(long merged, long skipped, List<FileResult> files) {
+        long failedFiles() {
+            return files.stream().filter(file -> file.error() != null).count();
+        }
+    }
+
+    private final ParameterExtractor extractor;
+    private final ParameterContexts contexts;
+
+    ParameterImporter(ParameterExtractor extractor, ParameterContexts contexts) {
+        this.extractor = extractor;
+        this.contexts = contexts;
+    }
+
+    // 파일 하나가 실패해도 나머지는 계속. 실패는 FileResult.error로 알린다
+    Result importFiles(List<Path> files, int threads, Progress progress) throws InterruptedException {
+        long totalBytes = 0;
+        for (Path file : files) {
+            try {
+                totalBytes += Files.size(file);
+            } catch (IOException e) {
+                // 크기를 모르면 진행률에서만 빠진다
+            }
+        }
+        long total = totalBytes;
+        AtomicLong readBytes = new AtomicLong();
+        LongConsumer onRead = read -> progress.update(readBytes.addAndGet(read), total);
+
+        // 파일마다 가상 스레드 하나. 동시에 파싱하는 파일 수(버퍼 메모리)는 threads개로 제한
+        Semaphore permits = new Semaphore(Math.max(1, threads));
+        ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            BackgroundTasks.virtualThreads("ParameterCollector-import"));
+        try {
+            List<Future<FileResult>> futures = new ArrayList<>();
+            for (Path file : files) {
+                futures.add(executor.submit(() -> {
+                    permits.acquire();
+                    try {
+                        return importFile(file, onRead);
+                    } finally {
+                        permits.release();
+                    }
+                }));
+            }
+            List<FileResult> results = new ArrayList<>();
+            long merged = 0;
+            long skipped = 0;
+            for (Future<FileResult> future : futures) {
+                FileResult result;
+                try {
+                    result = future.get();
+                } catch (ExecutionException e) {
+                    throw new IllegalStateException(e.getCause());
+                }
+                results.add(result);
+                merged += result.merged();
+                skipped += result.skipped();
+            }
+            progress.update(readBytes.get(), total);
+            return new Result(merged, skipped, results);
+        } finally {
+            // 취소(인터럽트)되었으면 남은 파일 작업도 멈추고, 모두 끝난 뒤에 돌아간다
+            executor.shutdownNow();
+            executor.close();
+        }
+    }
+
+    private FileResult importFile(Path file, LongConsumer onRead) {
+        FileImport state = new FileImport();
+        try (InputStream in = open(file, onRead)) {
+            Reader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), BUFFER_SIZE);
+            int first = firstCharacter(reader);
+            if (first == '[' || first == '{') {
+                readJson(reader, state);
+            } else if (first >= 0) {
+                readCsv(reader, state);
+            }
+            return new FileResult(file, state.merged, state.skipped, null);
+        } catch (IOException | RuntimeException e) {
+            return new FileResult(file, state.merged, state.skipped, String.valueOf(e.getMessage()));
+        }
+    }
+
+    // 압축 여부는 확장자가 아니라 gzip 매직 바이트(1f 8b)로 판단
+    private static InputStream open(Path file, LongConsumer onRead) throws IOException {
+        InputStream raw = new CountingInputStream(Files.newInputStream(file), onRead);
+        BufferedInputStream buffered = new BufferedInputStream(raw, BUFFER_SIZE);
+        buffered.mark(2);
+        int b1 = buffered.read();
+        int b2 = buffered.read();
+        buffered.reset();
+        if (b1 == 0x1f && b2 == 0x8b) {
+            return new GZIPInputStream(buffered, BUFFER_SIZE);
+        }
+        return buffered;
+    }
+
+    // 공백/BOM을 건너뛴 첫 글자 (reader는 그 글자 앞에 그대로 둔다). 빈 파일이면 -1
+    private static int firstCharacter(Reader reader) throws IOException {
+        while (true) {
+            reader.mark(1);
+            int c = reader.read();
+            if (c < 0) {
+                return -1;
+            }
+            if (!Character.isWhitespace(c) && c != '\uFEFF') {
+                reader.reset();
+                return c;
+            }
+        }
+    }
+
+    // 파일 하나를 읽는 동안의 상태 (스레드 하나 전용)
+    private final class FileImport {
+        long merged;
+        long skipped;
+        // "host\nendpoint" -> 엔드포인트 번호 (템플릿 정규화를 값마다 하지 않도록)
+        private final Map<String, Integer> endpoints = new HashMap<>();
+
+        void add(String name, String value, String host, String endpoint, String source) {
+            if (name == null || value == null) {
+                return;
+            }
+            if (extractor.addParameterValue(name, value, context(host, endpoint, source))) {
+                merged++;
+            } else {
+                skipped++;
+            }
+        }
+
+        private int context(String host, String endpoint, String source) {
+            int endpointId = 0;
+            if (host != null && endpoint != null && !endpoint.isEmpty()) {
+                endpointId = endpoints.computeIfAbsent(host + "\n" + endpoint, key -> {
+                    int space = endpoint.indexOf(' ');
+                    return space < 0
+                        ? contexts.endpoint(host, "", endpoint)
+                        : contexts.endpoint(host, endpoint.substring(0, space), endpoint.substring(space + 1));
+                });
+            }
+            ParameterContexts.Source parsed = ParameterContexts.Source.UNKNOWN;
+            if (source != null) {
+                try {
+                    parsed = ParameterContexts.Source.valueOf(source);
+                } catch (IllegalArgumentException e) {
+                    // 모르는 출처는 알 수 없음으로
+                }
+            }
+            return ParameterContexts.encode(endpointId, parsed);
+        }
+    }
+
+    // JSON 배열 [{"name", "values": [...]}] 또는 NDJSON {"name", "value", ...} 한 줄씩
+    // 둘 다 lenient 모드에서 최상위 값을 차례로 읽으면 된다
+    private static void readJson(Reader in, FileImport state) throws IOException {
+        JsonReader reader = new JsonReader(in);
+        reader.setLenient(true);
+        while (reader.peek() != JsonToken.END_DOCUMENT) {
+            if (reader.peek() == JsonToken.BEGIN_ARRAY) {
+                reader.beginArray();
+                while (reader.hasNext()) {
+                    readObject(reader, state);
+                }
+                reader.endArray();
+            } else {
+                readObject(reader, state);
+            }
+        }
+    }
+
+    private static void readObject(JsonReader reader, FileImport state) throws IOException {
+        if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+            reader.skipValue();
+            return;
+        }
+        String name = null;
+        String value = null;
+        String host = null;
+        String endpoint = null;
+        String source = null;
+        // "values"가 "name"보다 먼저 나오는 경우에만 모아 둔다
+        List<String> pending = null;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "name" -> {
+                    name = string(reader);
+                    if (pending != null && name != null) {
+                        for (String v : pending) {
+                            state.add(name, v, null, null, null);
+                        }
+                        pending = null;
+                    }
+                }
+                case "value" -> value = string(reader);
+                case "host" -> host = string(reader);
+                case "endpoint" -> endpoint = string(reader);
+                case "source" -> source = string(reader);
+                case "values" -> {
+                    if (reader.peek() != JsonToken.BEGIN_ARRAY) {
+                        reader.skipValue();
+                        break;
+                    }
+                    reader.beginArray();
+                    while (reader.hasNext()) {
+                        String v = string(reader);
+                        if (v == null) {
+                            continue;
+                        }
+                        if (name != null) {
+                            state.add(name, v, null, null, null);
+                        } else {
+                            if (pending == null) {
+                                pending = new ArrayList<>();
+                            }
+                            pending.add(v);
+                        }
+                    }
+                    reader.endArray();
+                }
+                default -> reader.skipValue();
+            }
+        }
+        reader.endObject();
+        if (value != null) {
+            state.add(name, value, host, endpoint, source);
+        }
+    }
+
+    // 문자열/숫자/불리언은 문자열로, 그 외는 건너뛰고 null
+    private static String string(JsonReader reader) throws IOException {
+        JsonToken token = reader.peek();
+        if (token == JsonToken.STRING || token == JsonToken.NUMBER) {
+            return reader.nextString();
+        }
+        if (token == JsonToken.BOOLEAN) {
+            return String.valueOf(reader.nextBoolean());
+        }
+        reader.skipValue();
+        return null;
+    }
+
+    // RFC 4180 CSV. 첫 줄 머리글에서 name/value/host/endpoint/source 열을 찾는다 (없으면 1, 2열이 이름, 값)
+    private static void readCsv(Reader reader, FileImport state) throws IOException {
+        List<String> row = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        if (!readCsvRow(reader, row, field)) {
+            return;
+        }
+        int nameColumn = row.indexOf("name");
+        int valueColumn = row.indexOf("value");
+        int hostColumn = row.indexOf("host");
+        int endpointColumn = row.indexOf("endpoint");
+        int sourceColumn = row.indexOf("source");
+        if (nameColumn < 0 || valueColumn < 0) {
+            nameColumn = 0;
+            valueColumn = 1;
+            if (row.size() > 1) {
+                state.add(row.get(0), row.get(1), null, null, null);
+            }
+        }
+        while (readCsvRow(reader, row, field)) {
+            state.add(column(row, nameColumn), column(row, valueColumn), column(row, hostColumn),
+                column(row, endpointColumn), column(row, sourceColumn));
+        }
+    }
+
+    private static String column(List<String> row, int index) {
+        return index >= 0 && index < row.size() ? row.get(index) : null;
+    }
+
+    // 한 행을 row에 채운다. 파일 끝이면 false
+    private static boolean readCsvRow(Reader reader, List<String> row, StringBuilder field) throws IOException {
+        row.clear();
+        field.setLength(0);
+        boolean quoted = false;
+        int c = reader.read();
+        if (c < 0) {
+            return false;
+        }
+        while (true) {
+            if (quoted) {
+                if (c < 0) {
+                    break;
+                }
+                if (c == '"') {
+                    reader.mark(1);
+                    int next = reader.read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        if (next >= 0) {
+                            reader.reset();
+                        }
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c < 0 || c == '\n') {
+                break;
+            } else if (c == '\r') {
+                reader.mark(1);
+                if (reader.read() != '\n') {
+                    reader.reset();
+                }
+                break;
+            } else if (c == ',') {
+                row.add(field.toString());
+                field.setLength(0);
+            } else if (c == '"' && field.length() == 0) {
+                quoted = true;
+            } else {
+                field.append((char) c);
+            }
+            c = reader.read();
+        }
+        row.add(field.toString());
+        return true;
+    }
+
+    // 원본 파일에서 읽은 바이트 수를 PROGRESS_BYTES마다 알린다 (증가분만 전달)
+    private static final class CountingInputStream extends FilterInputStream {
+        private final LongConsumer onRead;
+        private long unreported;
+
+        CountingInputStream(InputStream in, LongConsumer onRead) {
+            super(in);
+            this.onRead = onRead;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int n = super.read(buffer, offset, length);
+            if (n > 0) {
+                count(n);
+            }
+            return n;
+        }
+
+        private void count(long n) {
+            unreported += n;
+            if (unreported >= PROGRESS_BYTES) {
+                onRead.accept(unreported);
+                unreported = 0;
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (unreported > 0) {
+                onRead.accept(unreported);
+                unreported = 0;
+            }
+            super.close();
+        }
+    }
+}
@@ -0,0 +1,274 @@
+package com.parameter.collector;
+
+import com.google.gson.stream.JsonReader;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+
+// 수집한 (이름, 값)을 디스크에 남기는 추가 전용 NDJSON 저널
+// - 추가: {"n":"이름","v":"값"}, 삭제: {"op":"del","n":"이름","v":"값"}
+// - 작성 스레드가 GROUP_COMMIT_INTERVAL_MS 마다 쌓인 기록을 한 번에 쓰고 force 한 번 (group commit)
+// - 기록 수가 compactionThreshold를 넘으면 저장소 전체를 스냅샷으로 쓰고 저널을 비운다
+// - 시작 시 스냅샷 -> 저널 순서로 재생
+class ParameterJournal {
+    static final String SNAPSHOT_FILE = "parameters.snapshot.ndjson";
+    static final String JOURNAL_FILE = "parameters.journal.ndjson";
+    private static final long GROUP_COMMIT_INTERVAL_MS = 200;
+
+    private final ParameterStore store;
+    private final Path directory;
+    private final int compactionThreshold;
+    private final Consumer<String> log;
+    private final Consumer<String> errorLog;
+    private final ConcurrentLinkedQueue<String[]> pendingRemovals = new ConcurrentLinkedQueue<>();
+    private final Object signal = new Object();
+
+    private Thread thread;
+    private FileChannel channel;
+    private volatile boolean running;
+
+    // 작성 스레드 전용 상태
+    private int journaledLimit;
+    private long recordsSinceCompaction;
+    private boolean compactionRequested;
+
+    ParameterJournal(ParameterStore store, Path directory, int compactionThreshold,
+                     Consumer<String> log, Consumer<String> errorLog) {
+        this.store = store;
+        this.directory = directory;
+        this.compactionThreshold = Math.max(1, compactionThreshold);
+        this.log = log;
+        this.errorLog = errorLog;
+    }
+
+    Path directory() {
+        return directory;
+    }
+
+    int compactionThreshold() {
+        return compactionThreshold;
+    }
+
+    // 스냅샷과 저널을 저장소에 재생. 재생한 기록 수를 반환
+    long replay() throws IOException {
+        Files.createDirectories(directory);
+        long applied = replayFile(directory.resolve(SNAPSHOT_FILE));
+        long journaled = replayFile(directory.resolve(JOURNAL_FILE));
+        recordsSinceCompaction = journaled;
+        return applied + journaled;
+    }
+
+    // 재생 이후 저장소에 들어온 값부터 기록 시작. 현재 저장소 내용은 바로 스냅샷으로 압축
+    void start() throws IOException {
+        channel = FileChannel.open(directory.resolve(JOURNAL_FILE),
+            StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        compact();
+        running = true;
+        thread = new Thread(this::run, "ParameterCollector-journal");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    void onRemoved(String name, String value) {
+        if (running) {
+            pendingRemovals.add(new String[]{name, value});
+        }
+    }
+
+    void close() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        synchronized (signal) {
+            signal.notifyAll();
+        }
+        try {
+            thread.join(5000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run() {
+        while (running) {
+            synchronized (signal) {
+                try {
+                    signal.wait(GROUP_COMMIT_INTERVAL_MS);
+                } catch (InterruptedException e) {
+                    break;
+                }
+            }
+            commit();
+        }
+        // 종료 전 마지막 커밋
+        commit();
+        try {
+            channel.close();
+        } catch (IOException e) {
+            errorLog.accept("[Parameter Collector] 저널 닫기 실패: " + e.getMessage());
+        }
+    }
+
+    private void commit() {
+        try {
+            int limit = store.entryLimit();
+            StringBuilder batch = new StringBuilder();
+            long records = 0;
+
+            // 삭제를 먼저 기록해야 삭제 후 다시 추가된 값이 재생 시 살아남는다
+            String[] removal;
+            while ((removal = pendingRemovals.poll()) != null) {
+                batch.append("{\"op\":\"del\",\"n\":");
+                appendJsonString(batch, removal[0]);
+                batch.append(",\"v\":");
+                appendJsonString(batch, removal[1]);
+                batch.append("}\n");
+                records++;
+            }
+            for (int id = journaledLimit; id < limit; id++) {
+                String value = store.valueAt(id);
+                if (value != null) {
+                    appendAddRecord(batch, store.nameAt(id), value);
+                    records++;
+                }
+            }
+            if (records > 0) {
+                write(channel, batch);
+                channel.force(false);
+                recordsSinceCompaction += records;
+            }
+            journaledLimit = limit;
+
+            if (compactionRequested || recordsSinceCompaction >= compactionThreshold) {
+                compact();
+            }
+        } catch (IOException e) {
+            // 저널 끝이 잘렸을 수 있으므로 다음 커밋에서 스냅샷으로 다시 맞춘다
+            compactionRequested = true;
+            errorLog.accept("[Parameter Collector] 저널 기록 실패: " + e.getMessage());
+        }
+    }
+
+    // 저장소 스냅샷을 임시 파일에 쓰고 원자적으로 교체한 뒤 저널을 비움
+    private void compact() throws IOException {
+        int limit = store.entryLimit();
+        Path snapshot = directory.resolve(SNAPSHOT_FILE);
+        Path temp = Files.createTempFile(directory, SNAPSHOT_FILE, ".tmp");
+        try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+            StringBuilder line = new StringBuilder();
+            for (int id = 0; id < limit; id++) {
+                String value = store.valueAt(id);
+                if (value != null) {
+                    line.setLength(0);
+                    appendAddRecord(line, store.nameAt(id), value);
+                    writer.append(line);
+                }
+            }
+        }
+        try (FileChannel tempChannel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+            tempChannel.force(true);
+        }
+        Files.move(temp, snapshot, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        channel.truncate(0);
+        channel.force(true);
+        journaledLimit = limit;
+        recordsSinceCompaction = 0;
+        compactionRequested = false;
+        log.accept("[Parameter Collector] 저널 압축 완료: " + snapshot);
+    }
+
+    private long replayFile(Path file) throws IOException {
+        if (!Files.exists(file)) {
+            return 0;
+        }
+        long applied = 0;
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isEmpty() && applyRecord(line)) {
+                    applied++;
+                }
+            }
+        }
+        return applied;
+    }
+
+    // 한 줄 적용. 비정상 종료로 잘린 마지막 줄 등은 무시
+    private boolean applyRecord(String line) {
+        try (JsonReader reader = new JsonReader(new StringReader(line))) {
+            String op = null;
+            String name = null;
+            String value = null;
+            reader.beginObject();
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case "op" -> op = reader.nextString();
+                    case "n" -> name = reader.nextString();
+                    case "v" -> value = reader.nextString();
+                    default -> reader.skipValue();
+                }
+            }
+            reader.endObject();
+            if (name == null || value == null) {
+                return false;
+            }
+            if ("del".equals(op)) {
+                store.remove(name, value);
+            } else {
+                store.add(name, value);
+            }
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            return false;
+        }
+    }
+
+    private static void appendAddRecord(StringBuilder out, String name, String value) {
+        out.append("{\"n\":");
+        appendJsonString(out, name);
+        out.append(",\"v\":");
+        appendJsonString(out, value);
+        out.append("}\n");
+    }
+
+    static void appendJsonString(StringBuilder out, String value) {
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> out.append("\\\"");
+                case '\\' -> out.append("\\\\");
+                case '\n' -> out.append("\\n");
+                case '\r' -> out.append("\\r");
+                case '\t' -> out.append("\\t");
+                default -> {
+                    if (c < 0x20 || c == '\u2028' || c == '\u2029') {
+                        out.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        out.append(c);
+                    }
+                }
+            }
+        }
+        out.append('"');
+    }
+
+    private static void write(FileChannel channel, CharSequence text) throws IOException {
+        ByteBuffer buffer = StandardCharsets.UTF_8.encode(text.toString());
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
@@ -0,0 +1,370 @@
+package com.parameter.collector;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+// 수집 값 검색용 트라이그램 색인 (검색 스레드 한 개에서만 사용)
+// - 값의 소문자 트라이그램 -> 엔트리 ID 목록, 파라미터명 -> 엔트리 ID 목록
+// - 엔트리 ID 목록은 오름차순 델타를 가변 길이 바이트로 저장 (엔트리당 수 바이트)
+// - 저장소에 새로 들어온 엔트리만 catchUp()에서 이어서 색인한다. 삭제된 엔트리는 검증 단계에서 걸러지고,
+//   색인한 엔트리 중 삭제가 PRUNE_RATIO를 넘으면 catchUp()에서 목록을 다시 써서 뺀다 (샘플링 교체처럼
+//   삭제가 계속되어도 색인이 살아 있는 값 기준으로 유지됨)
+// - 아직 색인하지 않은 뒷부분, 3글자 미만 검색어, 정규식은 훑어서 찾는다
+// 색인은 저장 방식과 상관없이 힙에 있다. 살아 있는 값 하나당 대략 (값 길이 - 2)바이트 (서로 다른 트라이그램마다
+// 1-2바이트) + 이름 목록 1-2바이트이므로, 디스크 매핑 저장소에서도 값 본문 크기 정도의 힙은 검색 색인이 쓴다
+final class ParameterSearchIndex {
+    private static final int CANCEL_CHECK_INTERVAL = 4096;
+    // 후보가 이 정도로 줄면 나머지 트라이그램은 교집합 대신 검증으로 거른다
+    private static final int VERIFY_THRESHOLD = 256;
+    // 색인한 엔트리 중 이 비율 이상이 삭제되면 목록 정리 (정리 비용은 색인 크기에 비례하므로 상각하면 엔트리당 상수)
+    private static final int PRUNE_RATIO = 4;
+    private static final int PRUNE_MIN_REMOVED = 1024;
+
+    private final ParameterStore store;
+    private final Map<String, PostingList> namePostings = new HashMap<>();
+
+    // 트라이그램(문자 3개를 48비트로 묶은 값) -> 목록 번호 (오픈 어드레싱)
+    private long[] trigramKeys = new long[1 << 14];
+    private int[] trigramSlots = filled(1 << 14);
+    private PostingList[] trigramPostings = new PostingList[1 << 12];
+    private int trigramCount;
+
+    private int indexedLimit;
+    // 마지막 정리 이후 저장소에서 삭제된 엔트리 수 (삭제 알림은 아무 스레드에서나 옴)
+    private final AtomicInteger removedSincePrune = new AtomicInteger();
+
+    ParameterSearchIndex(ParameterStore store) {
+        this.store = store;
+        store.addRemovalListener((name, value) -> removedSincePrune.incrementAndGet());
+    }
+
+    int indexedLimit() {
+        return indexedLimit;
+    }
+
+    // 마지막 색인 이후 추가된 엔트리 색인. 취소되면 false
+    boolean catchUp(BooleanSupplier cancelled) {
+        int removed = removedSincePrune.get();
+        if (removed >= PRUNE_MIN_REMOVED && (long) removed * PRUNE_RATIO >= indexedLimit) {
+            removedSincePrune.addAndGet(-removed);
+            prune();
+        }
+        int limit = store.entryLimit();
+        for (int id = indexedLimit; id < limit; id++) {
+            if ((id & (CANCEL_CHECK_INTERVAL - 1)) == 0 && cancelled.getAsBoolean()) {
+                indexedLimit = id;
+                return false;
+            }
+            String value = store.valueAt(id);
+            if (value == null) {
+                continue;
+            }
+            namePostings.computeIfAbsent(store.nameAt(id), k -> new PostingList()).add(id);
+            for (int i = 0; i + 3 <= value.length(); i++) {
+                postingsFor(trigram(value, i), true).add(id);
+            }
+        }
+        indexedLimit = limit;
+        return true;
+    }
+
+    // 삭제된 엔트리를 모든 목록에서 빼고 빈 목록(이름, 트라이그램)은 버린다
+    private void prune() {
+        namePostings.values().removeIf(list -> !list.retainLive(store));
+        long[] oldKeys = trigramKeys;
+        int[] oldSlots = trigramSlots;
+        PostingList[] oldPostings = trigramPostings;
+        int capacity = 1 << 14;
+        while (capacity < trigramCount * 2) {
+            capacity <<= 1;
+        }
+        trigramKeys = new long[capacity];
+        trigramSlots = filled(capacity);
+        trigramPostings = new PostingList[Math.max(1 << 12, capacity / 2)];
+        trigramCount = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldSlots[i] < 0) continue;
+            PostingList list = oldPostings[oldSlots[i]];
+            if (list.retainLive(store)) {
+                insertTrigram(oldKeys[i], list);
+            }
+        }
+    }
+
+    // [0, limit) 범위에서 필터 키워드와 검색 조건을 만족하는 살아 있는 엔트리 ID (오름차순). 취소되면 null
+    int[] search(SearchQuery query, String filterKeyword, int limit, BooleanSupplier cancelled) {
+        String literal = query.literal();
+        if (literal == null || literal.length() < 3) {
+            return scan(query, filterKeyword, 0, limit, cancelled);
+        }
+        int indexed = Math.min(limit, indexedLimit);
+
+        int[] valueMatches = verify(valueCandidates(literal, indexed), query, filterKeyword, cancelled);
+        if (valueMatches == null) {
+            return null;
+        }
+        // 이름이 일치하는 파라미터의 엔트리 전체
+        int[] nameMatches = new int[0];
+        for (Map.Entry<String, PostingList> entry : namePostings.entrySet()) {
+            if (SearchQuery.containsIgnoreCase(entry.getKey(), literal)) {
+                int[] ids = verify(entry.getValue().decode(indexed), query, filterKeyword, cancelled);
+                if (ids == null) {
+                    return null;
+                }
+                nameMatches = union(nameMatches, ids);
+            }
+        }
+        int[] tail = scan(query, filterKeyword, indexed, limit, cancelled);
+        if (tail == null) {
+            return null;
+        }
+        return union(union(valueMatches, nameMatches), tail);
+    }
+
+    // 검색어의 트라이그램 목록 교집합 (희소한 목록부터)
+    private int[] valueCandidates(String literal, int limit) {
+        int count = literal.length() - 2;
+        PostingList[] lists = new PostingList[count];
+        for (int i = 0; i < count; i++) {
+            lists[i] = postingsFor(trigram(literal, i), false);
+            if (lists[i] == null) {
+                return new int[0];
+            }
+        }
+        Arrays.sort(lists, (a, b) -> Integer.compare(a.count, b.count));
+        int[] candidates = lists[0].decode(limit);
+        for (int i = 1; i < count && candidates.length > VERIFY_THRESHOLD; i++) {
+            candidates = lists[i].intersect(candidates);
+        }
+        return candidates;
+    }
+
+    private int[] verify(int[] candidates, SearchQuery query, String filterKeyword, BooleanSupplier cancelled) {
+        int[] result = new int[candidates.length];
+        int size = 0;
+        for (int i = 0; i < candidates.length; i++) {
+            if ((i & (CANCEL_CHECK_INTERVAL - 1)) == 0 && cancelled.getAsBoolean()) {
+                return null;
+            }
+            int id = candidates[i];
+            if (matches(id, query, filterKeyword)) {
+                result[size++] = id;
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    private int[] scan(SearchQuery query, String filterKeyword, int from, int to, BooleanSupplier cancelled) {
+        int[] result = new int[1024];
+        int size = 0;
+        for (int id = from; id < to; id++) {
+            if ((id & (CANCEL_CHECK_INTERVAL - 1)) == 0 && cancelled.getAsBoolean()) {
+                return null;
+            }
+            if (matches(id, query, filterKeyword)) {
+                if (size == result.length) {
+                    result = Arrays.copyOf(result, size * 2);
+                }
+                result[size++] = id;
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    private boolean matches(int id, SearchQuery query, String filterKeyword) {
+        String value = store.valueAt(id);
+        if (value == null) {
+            return false;
+        }
+        String name = store.nameAt(id);
+        if (!filterKeyword.isEmpty() && (!name.contains(filterKeyword) || !value.contains(filterKeyword))) {
+            return false;
+        }
+        return query.matches(name, value);
+    }
+
+    private static int[] union(int[] a, int[] b) {
+        if (a.length == 0) return b;
+        if (b.length == 0) return a;
+        int[] result = new int[a.length + b.length];
+        int i = 0, j = 0, size = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                result[size++] = a[i++];
+            } else if (a[i] > b[j]) {
+                result[size++] = b[j++];
+            } else {
+                result[size++] = a[i++];
+                j++;
+            }
+        }
+        while (i < a.length) result[size++] = a[i++];
+        while (j < b.length) result[size++] = b[j++];
+        return Arrays.copyOf(result, size);
+    }
+
+    private static long trigram(String text, int start) {
+        return ((long) Character.toLowerCase(text.charAt(start)) << 32)
+            | ((long) Character.toLowerCase(text.charAt(start + 1)) << 16)
+            | Character.toLowerCase(text.charAt(start + 2));
+    }
+
+    private PostingList postingsFor(long key, boolean create) {
+        int mask = trigramKeys.length - 1;
+        int position = (int) (mix(key) & mask);
+        while (trigramSlots[position] >= 0) {
+            if (trigramKeys[position] == key) {
+                return trigramPostings[trigramSlots[position]];
+            }
+            position = (position + 1) & mask;
+        }
+        if (!create) {
+            return null;
+        }
+        PostingList list = new PostingList();
+        insertTrigram(key, list);
+        return list;
+    }
+
+    // 없는 키만 넣는다
+    private void insertTrigram(long key, PostingList list) {
+        int mask = trigramKeys.length - 1;
+        int position = (int) (mix(key) & mask);
+        while (trigramSlots[position] >= 0) {
+            position = (position + 1) & mask;
+        }
+        if (trigramCount == trigramPostings.length) {
+            trigramPostings = Arrays.copyOf(trigramPostings, trigramCount * 2);
+        }
+        trigramPostings[trigramCount] = list;
+        trigramKeys[position] = key;
+        trigramSlots[position] = trigramCount++;
+        if (trigramCount * 2 > trigramKeys.length) {
+            growTrigramTable();
+        }
+    }
+
+    private void growTrigramTable() {
+        long[] oldKeys = trigramKeys;
+        int[] oldSlots = trigramSlots;
+        trigramKeys = new long[oldKeys.length * 2];
+        trigramSlots = filled(oldKeys.length * 2);
+        int mask = trigramKeys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldSlots[i] < 0) continue;
+            int position = (int) (mix(oldKeys[i]) & mask);
+            while (trigramSlots[position] >= 0) position = (position + 1) & mask;
+            trigramKeys[position] = oldKeys[i];
+            trigramSlots[position] = oldSlots[i];
+        }
+    }
+
+    private static long mix(long key) {
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        return key;
+    }
+
+    private static int[] filled(int length) {
+        int[] slots = new int[length];
+        Arrays.fill(slots, -1);
+        return slots;
+    }
+
+    // 오름차순 엔트리 ID 목록 (델타 + 7비트 가변 길이)
+    private static final class PostingList {
+        private byte[] data = new byte[4];
+        private int length;
+        private int count;
+        private int lastId = -1;
+
+        void add(int id) {
+            if (id == lastId) {
+                return;
+            }
+            int delta = id - lastId;
+            if (length + 5 > data.length) {
+                data = Arrays.copyOf(data, data.length * 2);
+            }
+            while ((delta & ~0x7F) != 0) {
+                data[length++] = (byte) ((delta & 0x7F) | 0x80);
+                delta >>>= 7;
+            }
+            data[length++] = (byte) delta;
+            lastId = id;
+            count++;
+        }
+
+        // 살아 있는 엔트리만 남기고 다시 부호화. 남은 것이 없으면 false
+        boolean retainLive(ParameterStore store) {
+            int[] ids = decode(Integer.MAX_VALUE);
+            // 남는 ID의 델타는 원래 델타들의 합이라 부호화 길이가 원래보다 길어지지 않는다
+            data = new byte[Math.max(4, length + 5)];
+            length = 0;
+            count = 0;
+            lastId = -1;
+            for (int id : ids) {
+                if (store.isLive(id)) {
+                    add(id);
+                }
+            }
+            // 많이 줄었으면 남는 공간을 돌려준다
+            if (length * 2 < data.length) {
+                data = Arrays.copyOf(data, Math.max(4, length));
+            }
+            return count > 0;
+        }
+
+        // limit 미만 ID만
+        int[] decode(int limit) {
+            int[] ids = new int[count];
+            int size = 0;
+            int id = -1;
+            int position = 0;
+            while (position < length) {
+                int delta = 0;
+                int shift = 0;
+                byte b;
+                do {
+                    b = data[position++];
+                    delta |= (b & 0x7F) << shift;
+                    shift += 7;
+                } while (b < 0);
+                id += delta;
+                if (id >= limit) break;
+                ids[size++] = id;
+            }
+            return size == ids.length ? ids : Arrays.copyOf(ids, size);
+        }
+
+        // 정렬된 후보와의 교집합 (목록을 한 번 순차 디코딩)
+        int[] intersect(int[] candidates) {
+            int[] result = new int[candidates.length];
+            int size = 0;
+            int next = 0;
+            int id = -1;
+            int position = 0;
+            while (position < length && next < candidates.length) {
+                int delta = 0;
+                int shift = 0;
+                byte b;
+                do {
+                    b = data[position++];
+                    delta |= (b & 0x7F) << shift;
+                    shift += 7;
+                } while (b < 0);
+                id += delta;
+                while (next < candidates.length && candidates[next] < id) next++;
+                if (next < candidates.length && candidates[next] == id) {
+                    result[size++] = id;
+                    next++;
+                }
+            }
+            return Arrays.copyOf(result, size);
+        }
+    }
+}
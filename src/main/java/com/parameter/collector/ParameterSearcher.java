@@ -0,0 +1,93 @@
+package com.parameter.collector;
+
+import javax.swing.SwingUtilities;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+// 검색창 입력을 디바운스해 검색 스레드에서 실행 (EDT 밖)
+// - 새 입력이 오면 대기 중/실행 중인 이전 검색은 취소 (세대 번호 비교)
+// - 검색이 없을 때는 같은 스레드가 주기적으로 색인을 따라잡는다
+class ParameterSearcher {
+    static final long DEBOUNCE_MS = 150;
+    private static final long CATCH_UP_INTERVAL_MS = 1000;
+
+    @FunctionalInterface
+    interface ResultHandler {
+        // ids: [0, scannedLimit) 범위의 결과 엔트리 ID (오름차순)
+        void accept(int[] ids, int scannedLimit);
+    }
+
+    private final ParameterStore store;
+    private final ParameterSearchIndex index;
+    private final ScheduledExecutorService executor;
+    private final AtomicLong generation = new AtomicLong();
+    private final Consumer<Throwable> errorHandler;
+    private volatile boolean searchPending;
+
+    // EDT 전용
+    private ScheduledFuture<?> pending;
+
+    ParameterSearcher(ParameterStore store, Consumer<Throwable> errorHandler) {
+        this.store = store;
+        this.index = new ParameterSearchIndex(store);
+        this.errorHandler = errorHandler;
+        // 검색/색인 따라잡기 전용 가상 스레드 하나
+        this.executor = Executors.newSingleThreadScheduledExecutor(
+            BackgroundTasks.virtualThreads("ParameterCollector-search"));
+        executor.scheduleWithFixedDelay(this::catchUp, CATCH_UP_INTERVAL_MS, CATCH_UP_INTERVAL_MS, TimeUnit.MILLISECONDS);
+    }
+
+    // EDT에서 호출. 결과는 EDT에서 전달하며, 그 사이 새 검색이 들어왔으면 버린다
+    void search(SearchQuery query, String filterKeyword, ResultHandler onResult) {
+        long id = generation.incrementAndGet();
+        if (pending != null) {
+            pending.cancel(false);
+        }
+        searchPending = true;
+        pending = executor.schedule(() -> run(id, query, filterKeyword, onResult), DEBOUNCE_MS, TimeUnit.MILLISECONDS);
+    }
+
+    // EDT에서 호출
+    void cancel() {
+        generation.incrementAndGet();
+        if (pending != null) {
+            pending.cancel(false);
+            pending = null;
+        }
+        searchPending = false;
+    }
+
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void run(long id, SearchQuery query, String filterKeyword, ResultHandler onResult) {
+        try {
+            searchPending = false;
+            int limit = store.entryLimit();
+            int[] ids = index.search(query, filterKeyword, limit, () -> generation.get() != id);
+            if (ids == null) {
+                return;
+            }
+            SwingUtilities.invokeLater(() -> {
+                if (generation.get() == id) {
+                    onResult.accept(ids, limit);
+                }
+            });
+        } catch (RuntimeException e) {
+            errorHandler.accept(e);
+        }
+    }
+
+    private void catchUp() {
+        try {
+            index.catchUp(() -> searchPending);
+        } catch (RuntimeException e) {
+            errorHandler.accept(e);
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.parameter.collector;
+
+// 추출기가 찾은 파라미터명/값을 받는 콜백
+@FunctionalInterface
+interface ParameterSink {
+    void accept(String name, String value);
+}
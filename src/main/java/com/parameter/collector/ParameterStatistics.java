@@ -0,0 +1,205 @@
+package com.parameter.collector;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+// 파라미터명별 통계 + 고유 값이 많은 파라미터의 샘플링 전환
+// - 처음/마지막 발견 시각, 발견 횟수, 고유 값 추정(HyperLogLog), 값 길이 분포
+// - (켠 경우) 저장된 고유 값 수가 samplingThreshold를 넘으면 저장소에는 저수지 표본(sampleSize개)만 남기고
+//   이후 새 값은 저수지 표본 교체로만 저장한다 (이름별 메모리 일정, 통계는 계속 갱신)
+class ParameterStatistics {
+    // 값 길이 분포 구간: 0, 1, 2-3, 4-7, ..., 256 이상
+    static final String[] LENGTH_BUCKET_LABELS = {
+        "0", "1", "2-3", "4-7", "8-15", "16-31", "32-63", "64-127", "128-255", "256+"
+    };
+
+    private final ParameterStore store;
+    private final ConcurrentHashMap<String, NameStats> stats = new ConcurrentHashMap<>();
+
+    // 이름 등록 순서 (통계 탭 행 순서)
+    private final List<NameStats> order = new ArrayList<>();
+
+    // 기본은 끔: 샘플링은 표본에서 빠진 값을 저장소(및 저널/내보내기)에서 지우므로 사용자가 켤 때만 적용
+    private volatile int samplingThreshold = 0;
+    private volatile int sampleSize = 20;
+
+    ParameterStatistics(ParameterStore store) {
+        this.store = store;
+        store.addRemovalListener(this::onRemoved);
+    }
+
+    int getSamplingThreshold() {
+        return samplingThreshold;
+    }
+
+    int getSampleSize() {
+        return sampleSize;
+    }
+
+    // threshold가 0이면 샘플링하지 않음
+    void configure(int samplingThreshold, int sampleSize) {
+        this.samplingThreshold = Math.max(0, samplingThreshold);
+        this.sampleSize = Math.max(1, sampleSize);
+    }
+
+    // 통계를 갱신하고 정책에 따라 저장소에 넣는다. 새로 저장되면 엔트리 ID, 아니면 -1
+    // context: 저장 시 함께 남길 발견 위치 (ParameterContexts 인코딩)
+    int record(String name, String value, int rawLength, int context) {
+        NameStats entry = stats.get(name);
+        if (entry == null) {
+            entry = stats.computeIfAbsent(name, NameStats::new);
+            synchronized (order) {
+                if (!entry.listed) {
+                    entry.listed = true;
+                    order.add(entry);
+                }
+            }
+        }
+        long now = System.currentTimeMillis();
+        synchronized (entry) {
+            if (entry.hits == 0) {
+                entry.firstSeen = now;
+            }
+            entry.lastSeen = now;
+            entry.hits++;
+            entry.lengthBuckets[lengthBucket(rawLength)]++;
+            entry.cardinality.add(value);
+
+            if (entry.sampled) {
+                return offerSample(entry, value, context);
+            }
+            // 샘플링 전에는 저장소에 고유 값이 모두 있으므로 저장된 개수가 정확한 고유 값 수
+            int id = store.add(name, value, context);
+            int threshold = samplingThreshold;
+            if (id >= 0 && threshold > 0 && store.values(name).size() > threshold) {
+                switchToSampled(entry);
+            }
+            return id;
+        }
+    }
+
+    // 통계 탭용 스냅샷 (등록 순서)
+    List<Snapshot> snapshot() {
+        NameStats[] entries;
+        synchronized (order) {
+            entries = order.toArray(new NameStats[0]);
+        }
+        List<Snapshot> result = new ArrayList<>(entries.length);
+        for (NameStats entry : entries) {
+            ParameterStore.ValueSet values = store.values(entry.name);
+            int stored = values != null ? values.size() : 0;
+            synchronized (entry) {
+                result.add(new Snapshot(entry.name, entry.firstSeen, entry.lastSeen, entry.hits,
+                    entry.cardinality.estimate(), stored, entry.sampled, entry.lengthBuckets.clone()));
+            }
+        }
+        return result;
+    }
+
+    // 지금 저장된 값 중 sampleSize개를 무작위로 남기고 나머지는 저장소에서 삭제
+    private void switchToSampled(NameStats entry) {
+        entry.sampled = true;
+        int size = sampleSize;
+        List<String> reservoir = new ArrayList<>(size);
+        List<String> evicted = new ArrayList<>();
+        ParameterStore.ValueSet values = store.values(entry.name);
+        long seen = 0;
+        if (values != null) {
+            for (String stored : values) {
+                seen++;
+                if (reservoir.size() < size) {
+                    reservoir.add(stored);
+                    continue;
+                }
+                long slot = ThreadLocalRandom.current().nextLong(seen);
+                if (slot < size) {
+                    evicted.add(reservoir.set((int) slot, stored));
+                } else {
+                    evicted.add(stored);
+                }
+            }
+        }
+        for (String value : evicted) {
+            store.remove(entry.name, value);
+        }
+        entry.reservoir = reservoir;
+        entry.offered = seen;
+    }
+
+    // 저수지 표본 (Algorithm R). 표본에 들어가면 밀려난 값을 저장소에서 삭제
+    private int offerSample(NameStats entry, String value, int context) {
+        List<String> reservoir = entry.reservoir;
+        if (reservoir.contains(value)) {
+            return -1;
+        }
+        entry.offered++;
+        if (reservoir.size() < sampleSize) {
+            int id = store.add(entry.name, value, context);
+            if (id >= 0) {
+                reservoir.add(value);
+            }
+            return id;
+        }
+        long slot = ThreadLocalRandom.current().nextLong(entry.offered);
+        if (slot >= reservoir.size()) {
+            return -1;
+        }
+        int id = store.add(entry.name, value, context);
+        if (id >= 0) {
+            store.remove(entry.name, reservoir.set((int) slot, value));
+        }
+        return id;
+    }
+
+    // 사용자가 지운 표본 값은 저수지에서도 빼서 다시 수집될 수 있게 한다 (표본이 줄어든 채로 남지 않음)
+    // 저수지 교체로 지운 값은 이미 저수지에 없으므로 아무 일도 하지 않음
+    private void onRemoved(String name, String value) {
+        NameStats entry = stats.get(name);
+        if (entry == null) {
+            return;
+        }
+        synchronized (entry) {
+            if (entry.reservoir != null) {
+                entry.reservoir.remove(value);
+            }
+        }
+    }
+
+    private static int lengthBucket(int length) {
+        if (length <= 0) {
+            return 0;
+        }
+        return Math.min(LENGTH_BUCKET_LABELS.length - 1, 32 - Integer.numberOfLeadingZeros(length));
+    }
+
+    record Snapshot(
+        String name,
+        long firstSeen,
+        long lastSeen,
+        long hits,
+        long distinctEstimate,
+        int storedValues,
+        boolean sampled,
+        long[] lengthBuckets
+    ) {
+    }
+
+    private static final class NameStats {
+        private final String name;
+        private final HyperLogLog cardinality = new HyperLogLog();
+        private final long[] lengthBuckets = new long[LENGTH_BUCKET_LABELS.length];
+        private boolean listed;
+        private long firstSeen;
+        private long lastSeen;
+        private long hits;
+        private boolean sampled;
+        private List<String> reservoir;
+        private long offered;
+
+        private NameStats(String name) {
+            this.name = name;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.parameter.collector;
+
+import javax.swing.table.AbstractTableModel;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.List;
+
+// 통계 탭 테이블 모델 (EDT 전용). 행 순서는 파라미터명 등록 순서라 새 이름은 끝에 추가된다
+@SuppressWarnings("serial")
+class ParameterStatsTableModel extends AbstractTableModel {
+    private static final String[] COLUMNS = {
+        "파라미터명", "발견 횟수", "고유 값 (추정)", "저장된 값", "상태", "처음 발견", "마지막 발견", "값 길이 분포"
+    };
+    private static final Class<?>[] COLUMN_CLASSES = {
+        String.class, Long.class, Long.class, Integer.class, String.class, String.class, String.class, String.class
+    };
+
+    private final ParameterStatistics statistics;
+    private final SimpleDateFormat timeFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
+    private List<ParameterStatistics.Snapshot> rows = List.of();
+
+    ParameterStatsTableModel(ParameterStatistics statistics) {
+        this.statistics = statistics;
+    }
+
+    void refresh() {
+        int previous = rows.size();
+        rows = statistics.snapshot();
+        if (previous > 0) {
+            fireTableRowsUpdated(0, previous - 1);
+        }
+        if (rows.size() > previous) {
+            fireTableRowsInserted(previous, rows.size() - 1);
+        }
+    }
+
+    @Override
+    public int getRowCount() {
+        return rows.size();
+    }
+
+    @Override
+    public int getColumnCount() {
+        return COLUMNS.length;
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        return COLUMNS[column];
+    }
+
+    @Override
+    public Class<?> getColumnClass(int columnIndex) {
+        return COLUMN_CLASSES[columnIndex];
+    }
+
+    @Override
+    public Object getValueAt(int rowIndex, int columnIndex) {
+        ParameterStatistics.Snapshot row = rows.get(rowIndex);
+        return switch (columnIndex) {
+            case 0 -> row.name();
+            case 1 -> row.hits();
+            case 2 -> row.distinctEstimate();
+            case 3 -> row.storedValues();
+            case 4 -> row.sampled() ? "샘플링" : "전체";
+            case 5 -> timeFormat.format(new Date(row.firstSeen()));
+            case 6 -> timeFormat.format(new Date(row.lastSeen()));
+            default -> formatBuckets(row.lengthBuckets());
+        };
+    }
+
+    // 0이 아닌 구간만 "4-7:12 8-15:3" 형태로
+    private static String formatBuckets(long[] buckets) {
+        StringBuilder out = new StringBuilder();
+        for (int i = 0; i < buckets.length; i++) {
+            if (buckets[i] == 0) continue;
+            if (out.length() > 0) out.append(' ');
+            out.append(ParameterStatistics.LENGTH_BUCKET_LABELS[i]).append(':').append(buckets[i]);
+        }
+        return out.toString();
+    }
+}
@@ -0,0 +1,96 @@
+package com.parameter.collector;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.BiConsumer;
+
+// 파라미터명 -> 값 집합 저장소
+// - 모든 값은 전역 엔트리 ID(삽입 순서)를 받는다. 테이블/내보내기/저널은 엔트리 ID 범위로 읽는다
+// - 구현: 힙(HeapParameterStore), 메모리 매핑 파일(MappedParameterStore)
+interface ParameterStore {
+
+    enum Backend {
+        HEAP("메모리 (힙)"),
+        MAPPED("디스크 매핑 (대용량)");
+
+        private final String label;
+
+        Backend(String label) {
+            this.label = label;
+        }
+
+        @Override
+        public String toString() {
+            return label;
+        }
+    }
+
+    // directory가 비어 있으면 매핑 파일은 임시 폴더에 만든다
+    static ParameterStore create(Backend backend, String directory) throws IOException {
+        if (backend == Backend.MAPPED) {
+            Path path = directory.isEmpty()
+                ? Files.createTempDirectory("parameter-collector-store")
+                : Files.createTempDirectory(Files.createDirectories(Path.of(directory)), "store");
+            return new MappedParameterStore(path);
+        }
+        return new HeapParameterStore();
+    }
+
+    // 새 값이면 엔트리 ID, 이미 있는 값이면 -1
+    // context: 처음 발견한 위치 (ParameterContexts 인코딩, 0 = 알 수 없음)
+    int add(String name, String value, int context);
+
+    default int add(String name, String value) {
+        return add(name, value, 0);
+    }
+
+    boolean remove(String name, String value);
+
+    // 엔트리 ID, 없으면 -1
+    int find(String name, String value);
+
+    default boolean contains(String name, String value) {
+        return find(name, value) >= 0;
+    }
+
+    // 지금까지 발급된 엔트리 ID 범위 [0, entryLimit)
+    int entryLimit();
+
+    String nameAt(int id);
+
+    // 삭제된 엔트리면 null
+    String valueAt(int id);
+
+    // valueAt(id) != null 과 같지만 값을 읽지 않는다
+    boolean isLive(int id);
+
+    int contextAt(int id);
+
+    // 저장된 값 총 개수
+    int size();
+
+    // 값이 하나 이상 있는 파라미터 개수
+    int parameterCount();
+
+    ValueSet values(String name);
+
+    // 값이 있는 파라미터를 삽입 순서대로 순회 (호출 시점 스냅샷)
+    Iterable<ValueSet> parameters();
+
+    // 값 삭제 알림 (저널 등)
+    void addRemovalListener(BiConsumer<String, String> listener);
+
+    // 파일 등 외부 자원 해제
+    default void close() {
+    }
+
+    // 한 파라미터의 값 집합 (삽입 순서대로 순회, 삭제된 값은 건너뜀)
+    interface ValueSet extends Iterable<String> {
+        String name();
+
+        int size();
+
+        boolean contains(String value);
+    }
+}
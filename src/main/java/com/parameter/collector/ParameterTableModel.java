@@ -0,0 +1,205 @@
+package com.parameter.collector;
+
+import javax.swing.table.AbstractTableModel;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// 저장소의 엔트리 ID를 행으로 보여주는 테이블 모델 (EDT 전용)
+// 새 값은 refresh()에서 마지막으로 본 엔트리 ID 이후만 읽어 행 추가 이벤트로 반영
+// 검색어가 있으면 처음 결과는 검색 스레드(ParameterSearcher)에서 받아 setSearchResult()로 반영
+// 호스트/엔드포인트 범위를 고르면 처음 결과는 ParameterContextGroups의 목록에서 바로 만든다
+// 저장소에서 지워진 엔트리(샘플링 교체, 다른 탭에서 삭제 등)는 다음 refresh()에서 행을 뺀다
+@SuppressWarnings("serial")
+class ParameterTableModel extends AbstractTableModel {
+    private static final String[] COLUMNS = {"파라미터명", "값", "호스트", "엔드포인트", "출처"};
+
+    private final ParameterStore store;
+    private final ParameterContexts contexts;
+    private final ParameterContextGroups groups;
+    private int[] rows = new int[1024];
+    private int rowCount;
+    private int scannedLimit;
+    // 삭제 알림은 아무 스레드에서나 오므로 표시만 해 두고 EDT에서 정리
+    private final AtomicBoolean removalPending = new AtomicBoolean();
+
+    private String filterKeyword = "";
+    private SearchQuery query = SearchQuery.EMPTY;
+    private ParameterContextGroups.Scope scope = ParameterContextGroups.Scope.ALL;
+
+    ParameterTableModel(ParameterStore store, ParameterContexts contexts, ParameterContextGroups groups) {
+        this.store = store;
+        this.contexts = contexts;
+        this.groups = groups;
+        store.addRemovalListener((name, value) -> removalPending.set(true));
+    }
+
+    boolean isShowing(String filterKeyword, SearchQuery query, ParameterContextGroups.Scope scope) {
+        return this.filterKeyword.equals(filterKeyword) && this.query.equals(query) && this.scope.sameAs(scope);
+    }
+
+    // 필터/검색어/범위가 바뀌면 처음부터 다시 구성
+    void setFilter(String filterKeyword, SearchQuery query, ParameterContextGroups.Scope scope) {
+        if (isShowing(filterKeyword, query, scope)) {
+            refresh();
+            return;
+        }
+        this.filterKeyword = filterKeyword;
+        this.query = query;
+        this.scope = scope;
+        rowCount = 0;
+        scannedLimit = 0;
+        if (!scope.isAll()) {
+            // 범위에 속한 엔트리만 확인
+            groups.catchUp();
+            for (int id : groups.postings(scope)) {
+                String value = store.valueAt(id);
+                if (value != null && matches(store.nameAt(id), value)) {
+                    addRow(id);
+                }
+            }
+            scannedLimit = groups.indexedLimit();
+        }
+        appendNewEntries();
+        fireTableDataChanged();
+    }
+
+    // 검색 스레드 결과 반영. ids는 [0, scannedLimit)에서 조건을 만족하는 엔트리 ID (오름차순)
+    void setSearchResult(String filterKeyword, SearchQuery query, ParameterContextGroups.Scope scope,
+                         int[] ids, int scannedLimit) {
+        this.filterKeyword = filterKeyword;
+        this.query = query;
+        this.scope = scope;
+        if (scope.isAll()) {
+            rows = Arrays.copyOf(ids, Math.max(1024, ids.length));
+            rowCount = ids.length;
+        } else {
+            rowCount = 0;
+            for (int id : ids) {
+                if (scope.includes(store.contextAt(id), contexts)) {
+                    addRow(id);
+                }
+            }
+        }
+        this.scannedLimit = scannedLimit;
+        appendNewEntries();
+        fireTableDataChanged();
+    }
+
+    // 마지막 refresh 이후 추가된 엔트리만 행으로 추가 (그 사이 삭제가 있었으면 지워진 행부터 뺀다)
+    void refresh() {
+        if (removalPending.getAndSet(false) && compact()) {
+            appendNewEntries();
+            fireTableDataChanged();
+            return;
+        }
+        int first = rowCount;
+        appendNewEntries();
+        if (rowCount > first) {
+            fireTableRowsInserted(first, rowCount - 1);
+        }
+    }
+
+    private void appendNewEntries() {
+        int limit = store.entryLimit();
+        boolean scoped = !scope.isAll();
+        for (int id = scannedLimit; id < limit; id++) {
+            if (scoped && !scope.includes(store.contextAt(id), contexts)) {
+                continue;
+            }
+            String value = store.valueAt(id);
+            if (value != null && matches(store.nameAt(id), value)) {
+                addRow(id);
+            }
+        }
+        scannedLimit = limit;
+    }
+
+    // 지워진 엔트리의 행을 뺀다. 줄었으면 true
+    private boolean compact() {
+        int kept = 0;
+        for (int i = 0; i < rowCount; i++) {
+            if (store.isLive(rows[i])) {
+                rows[kept++] = rows[i];
+            }
+        }
+        boolean changed = kept != rowCount;
+        rowCount = kept;
+        return changed;
+    }
+
+    private void addRow(int id) {
+        if (rowCount == rows.length) {
+            rows = Arrays.copyOf(rows, rows.length * 2);
+        }
+        rows[rowCount++] = id;
+    }
+
+    private boolean matches(String name, String value) {
+        if (!filterKeyword.isEmpty() && (!name.contains(filterKeyword) || !value.contains(filterKeyword))) {
+            return false;
+        }
+        return query.isEmpty() || query.matches(name, value);
+    }
+
+    // 선택한 행들을 저장소와 테이블에서 삭제
+    void removeRows(int[] selectedRows) {
+        if (selectedRows.length == 0) {
+            return;
+        }
+        int[] sorted = selectedRows.clone();
+        Arrays.sort(sorted);
+        for (int row : sorted) {
+            int id = rows[row];
+            String value = store.valueAt(id);
+            if (value != null) {
+                store.remove(store.nameAt(id), value);
+            }
+        }
+        int write = 0;
+        int next = 0;
+        for (int read = 0; read < rowCount; read++) {
+            if (next < sorted.length && sorted[next] == read) {
+                next++;
+                continue;
+            }
+            rows[write++] = rows[read];
+        }
+        rowCount = write;
+        fireTableDataChanged();
+    }
+
+    @Override
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    @Override
+    public int getColumnCount() {
+        return COLUMNS.length;
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        return COLUMNS[column];
+    }
+
+    @Override
+    public Class<?> getColumnClass(int columnIndex) {
+        return String.class;
+    }
+
+    @Override
+    public Object getValueAt(int rowIndex, int columnIndex) {
+        int id = rows[rowIndex];
+        return switch (columnIndex) {
+            case 0 -> store.nameAt(id);
+            case 1 -> {
+                String value = store.valueAt(id);
+                yield value != null ? value : "";
+            }
+            case 2 -> contexts.host(ParameterContexts.endpointOf(store.contextAt(id)));
+            case 3 -> contexts.describe(ParameterContexts.endpointOf(store.contextAt(id)));
+            default -> ParameterContexts.sourceOf(store.contextAt(id)).toString();
+        };
+    }
+}
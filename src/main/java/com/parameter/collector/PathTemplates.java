@@ -0,0 +1,198 @@
+package com.parameter.collector;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 요청 경로를 엔드포인트 템플릿으로 정규화 (/users/12345/orders/987 -> /users/{id}/orders/{id})
+// - 호스트마다 경로 세그먼트 트라이를 두고 들어오는 경로로 계속 학습한다 (경로 길이만큼의 조회)
+// - 숫자/UUID/16진수/base64처럼 보이는 세그먼트는 바로 자리표시자로 바꾼다
+// - 한 위치의 서로 다른 일반 세그먼트가 fanOutThreshold개를 넘으면 형제들을 {var} 하나로 합친다
+//   (합치기 전에 이미 발급된 엔드포인트는 그대로 남고, 이후 경로부터 템플릿으로 묶인다)
+final class PathTemplates {
+    static final int DEFAULT_FAN_OUT_THRESHOLD = 50;
+    // 이보다 깊은 부분은 학습하지 않고 {rest}로 묶는다
+    private static final int MAX_DEPTH = 32;
+    // 이보다 긴 세그먼트는 이름이라기보다 값으로 본다
+    private static final int MAX_LITERAL_LENGTH = 64;
+
+    static final String ID = "{id}";
+    static final String UUID = "{uuid}";
+    static final String HEX = "{hex}";
+    static final String TOKEN = "{token}";
+    static final String VARIABLE = "{var}";
+    private static final String REST = "{rest}";
+
+    private final int fanOutThreshold;
+    private final ConcurrentHashMap<String, Node> roots = new ConcurrentHashMap<>();
+
+    PathTemplates() {
+        this(DEFAULT_FAN_OUT_THRESHOLD);
+    }
+
+    PathTemplates(int fanOutThreshold) {
+        this.fanOutThreshold = Math.max(1, fanOutThreshold);
+    }
+
+    // 학습 후 템플릿 경로. 호스트별 트라이 하나에 락 하나
+    String normalize(String host, String path) {
+        if (path == null || path.isEmpty()) {
+            return "/";
+        }
+        Node root = roots.computeIfAbsent(host, k -> new Node());
+        StringBuilder out = new StringBuilder(path.length());
+        synchronized (root) {
+            Node node = root;
+            int depth = 0;
+            int start = path.charAt(0) == '/' ? 1 : 0;
+            while (true) {
+                int end = path.indexOf('/', start);
+                if (end < 0) {
+                    end = path.length();
+                }
+                out.append('/');
+                if (depth == MAX_DEPTH) {
+                    out.append(REST);
+                    break;
+                }
+                String segment = path.substring(start, end);
+                String placeholder = classify(segment);
+                if (placeholder != null) {
+                    out.append(placeholder);
+                    node = node.placeholders.computeIfAbsent(placeholder, k -> new Node());
+                } else if (node.literals == null) {
+                    out.append(VARIABLE);
+                    node = node.variable;
+                } else {
+                    Node child = node.literals.get(segment);
+                    if (child == null) {
+                        child = new Node();
+                        node.literals.put(segment, child);
+                        if (node.literals.size() > fanOutThreshold) {
+                            collapse(node);
+                            child = node.variable;
+                            segment = VARIABLE;
+                        }
+                    }
+                    out.append(segment);
+                    node = child;
+                }
+                if (end == path.length()) {
+                    break;
+                }
+                start = end + 1;
+                depth++;
+            }
+        }
+        return out.toString();
+    }
+
+    // 일반 세그먼트 형제들을 {var} 하나로 합친다 (하위 트라이도 함께 병합)
+    private void collapse(Node node) {
+        if (node.variable == null) {
+            node.variable = new Node();
+        }
+        Map<String, Node> literals = node.literals;
+        node.literals = null;
+        for (Node child : literals.values()) {
+            absorb(node.variable, child);
+        }
+    }
+
+    private void absorb(Node target, Node source) {
+        for (Map.Entry<String, Node> entry : source.placeholders.entrySet()) {
+            Node existing = target.placeholders.putIfAbsent(entry.getKey(), entry.getValue());
+            if (existing != null) {
+                absorb(existing, entry.getValue());
+            }
+        }
+        if (source.variable != null) {
+            if (target.variable == null) {
+                target.variable = source.variable;
+            } else {
+                absorb(target.variable, source.variable);
+            }
+        }
+        if (source.literals != null) {
+            for (Map.Entry<String, Node> entry : source.literals.entrySet()) {
+                if (target.literals == null) {
+                    absorb(target.variable, entry.getValue());
+                    continue;
+                }
+                Node existing = target.literals.putIfAbsent(entry.getKey(), entry.getValue());
+                if (existing != null) {
+                    absorb(existing, entry.getValue());
+                }
+            }
+        }
+        // 어느 한쪽이라도 합쳐진 위치였으면 결과도 합쳐진 위치
+        if (target.literals != null && (target.variable != null || target.literals.size() > fanOutThreshold)) {
+            collapse(target);
+        }
+    }
+
+    // 값처럼 보이는 세그먼트의 자리표시자, 일반 세그먼트면 null
+    static String classify(String segment) {
+        int length = segment.length();
+        if (length == 0) {
+            return null;
+        }
+        if (length > MAX_LITERAL_LENGTH) {
+            return TOKEN;
+        }
+        boolean digits = true;
+        boolean hex = true;
+        boolean hasDigit = false;
+        boolean hasUpper = false;
+        boolean hasLower = false;
+        boolean base64 = true;
+        for (int i = 0; i < length; i++) {
+            char c = segment.charAt(i);
+            boolean digit = c >= '0' && c <= '9';
+            boolean lowerHex = c >= 'a' && c <= 'f';
+            boolean upperHex = c >= 'A' && c <= 'F';
+            hasDigit |= digit;
+            hasUpper |= c >= 'A' && c <= 'Z';
+            hasLower |= c >= 'a' && c <= 'z';
+            digits &= digit || (i == 0 && c == '-' && length > 1);
+            hex &= digit || lowerHex || upperHex;
+            base64 &= digit || (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z')
+                || c == '-' || c == '_' || c == '+' || c == '=' || c == '%';
+        }
+        if (digits) {
+            return ID;
+        }
+        if (length == 36 && isUuid(segment)) {
+            return UUID;
+        }
+        if (hex && hasDigit && length >= 8) {
+            return HEX;
+        }
+        // 대소문자와 숫자가 섞인 긴 토큰 (세션 ID, 서명 등)
+        if (base64 && hasDigit && hasUpper && hasLower && length >= 16) {
+            return TOKEN;
+        }
+        return null;
+    }
+
+    private static boolean isUuid(String segment) {
+        for (int i = 0; i < 36; i++) {
+            char c = segment.charAt(i);
+            if (i == 8 || i == 13 || i == 18 || i == 23) {
+                if (c != '-') {
+                    return false;
+                }
+            } else if (Character.digit(c, 16) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 트라이 노드. literals가 null이면 이 위치의 일반 세그먼트는 모두 variable로 간다
+    private static final class Node {
+        private Map<String, Node> literals = new HashMap<>();
+        private final Map<String, Node> placeholders = new HashMap<>(4);
+        private Node variable;
+    }
+}
@@ -0,0 +1,134 @@
+package com.parameter.collector;
+
+import java.nio.charset.StandardCharsets;
+
+// 쿼리스트링 / form-urlencoded 단일 패스 토크나이저 (정규식 미사용)
+// - '&'/'=' 분리는 원본 문자열 범위 위에서 처리하고, 디코딩이 필요 없으면 원본 범위로 사전(StringDictionary)을 찾아
+//   이미 본 이름/짧은 값이면 문자열을 만들지 않음 (처음 보면 substring 한 번만 생성)
+// - '+'는 공백, %XX는 UTF-8 바이트로 디코딩 (UTF-8이 아니면 ISO-8859-1로 해석)
+// - '='가 없거나 이름이 빈 쌍은 기존 정규식과 동일하게 무시
+final class QueryStringTokenizer {
+
+    private QueryStringTokenizer() {
+    }
+
+    // URL의 '?' 뒤부터 '#' 앞까지를 파싱
+    static void parseUrl(String url, ParameterSink sink) {
+        int query = url.indexOf('?');
+        if (query < 0) {
+            return;
+        }
+        int end = url.indexOf('#', query + 1);
+        parse(url, query + 1, end < 0 ? url.length() : end, sink);
+    }
+
+    static void parse(CharSequence input, ParameterSink sink) {
+        parse(input, 0, input.length(), sink);
+    }
+
+    static void parse(CharSequence input, int start, int end, ParameterSink sink) {
+        int pairStart = start;
+        while (pairStart < end) {
+            int equals = -1;
+            int pairEnd = pairStart;
+            while (pairEnd < end) {
+                char c = input.charAt(pairEnd);
+                if (c == '&') {
+                    break;
+                }
+                if (c == '=' && equals < 0) {
+                    equals = pairEnd;
+                }
+                pairEnd++;
+            }
+            if (equals > pairStart) {
+                sink.accept(decode(input, pairStart, equals, StringDictionary.NAMES),
+                    decode(input, equals + 1, pairEnd, StringDictionary.VALUES));
+            }
+            pairStart = pairEnd + 1;
+        }
+    }
+
+    // 결과는 dictionary의 정규 사본
+    static String decode(CharSequence input, int start, int end, StringDictionary dictionary) {
+        boolean needsDecoding = false;
+        for (int i = start; i < end && !needsDecoding; i++) {
+            char c = input.charAt(i);
+            needsDecoding = c == '%' || c == '+';
+        }
+        if (!needsDecoding) {
+            return dictionary.intern(input, start, end);
+        }
+        return dictionary.intern(decodeEscapes(input, start, end));
+    }
+
+    private static String decodeEscapes(CharSequence input, int start, int end) {
+        // 디코딩 경로: 문자는 원시 바이트(0x00-0xFF)로 취급, 그 이상은 UTF-8로 인코딩
+        byte[] bytes = new byte[(end - start) * 3];
+        int length = 0;
+        for (int i = start; i < end; i++) {
+            char c = input.charAt(i);
+            if (c == '+') {
+                bytes[length++] = ' ';
+            } else if (c == '%' && i + 2 < end
+                    && hexValue(input.charAt(i + 1)) >= 0 && hexValue(input.charAt(i + 2)) >= 0) {
+                bytes[length++] = (byte) ((hexValue(input.charAt(i + 1)) << 4) | hexValue(input.charAt(i + 2)));
+                i += 2;
+            } else if (c <= 0xFF) {
+                bytes[length++] = (byte) c;
+            } else if (c < 0x800) {
+                bytes[length++] = (byte) (0xC0 | (c >> 6));
+                bytes[length++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < end && Character.isLowSurrogate(input.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, input.charAt(++i));
+                bytes[length++] = (byte) (0xF0 | (codePoint >> 18));
+                bytes[length++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                bytes[length++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                bytes[length++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else {
+                bytes[length++] = (byte) (0xE0 | (c >> 12));
+                bytes[length++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                bytes[length++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        return new String(bytes, 0, length,
+            isValidUtf8(bytes, length) ? StandardCharsets.UTF_8 : StandardCharsets.ISO_8859_1);
+    }
+
+    private static boolean isValidUtf8(byte[] bytes, int length) {
+        int i = 0;
+        while (i < length) {
+            int b = bytes[i] & 0xFF;
+            int continuation;
+            if (b < 0x80) {
+                i++;
+                continue;
+            } else if (b >= 0xC2 && b <= 0xDF) {
+                continuation = 1;
+            } else if (b >= 0xE0 && b <= 0xEF) {
+                continuation = 2;
+            } else if (b >= 0xF0 && b <= 0xF4) {
+                continuation = 3;
+            } else {
+                return false;
+            }
+            if (i + continuation >= length) {
+                return false;
+            }
+            for (int k = 1; k <= continuation; k++) {
+                if ((bytes[i + k] & 0xC0) != 0x80) {
+                    return false;
+                }
+            }
+            i += continuation + 1;
+        }
+        return true;
+    }
+
+    private static int hexValue(char c) {
+        if (c >= '0' && c <= '9') return c - '0';
+        if (c >= 'a' && c <= 'f') return c - 'a' + 10;
+        if (c >= 'A' && c <= 'F') return c - 'A' + 10;
+        return -1;
+    }
+}
@@ -0,0 +1,222 @@
+package com.parameter.collector;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+
+// Burp 없이 저장된 트래픽(HAR, Burp 저장 항목 XML)을 추출 파이프라인에 흘려 처리량/메모리를 재는 진입점
+//   java -jar parameter-collector.jar [옵션] <capture.har|items.xml>[.gz]
+// - Burp의 HttpHandler와 같은 경로: 스냅샷 -> ExtractionPipeline(대기 정책) -> ParameterExtractor -> 저장소
+// - Burp 클래스를 하나도 로드하지 않는다 (montoya-api 없이 실행)
+final class ReplayHarness {
+    private static final int QUEUE_CAPACITY = 10_000;
+
+    private ReplayHarness() {
+    }
+
+    private enum Format { HAR, BURP }
+
+    public static void main(String[] args) throws Exception {
+        int threads = Runtime.getRuntime().availableProcessors();
+        String storeType = "heap";
+        Path storeDir = null;
+        Format format = null;
+        Path report = null;
+        boolean includeResponses = true;
+        Path input = null;
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--threads" -> threads = Integer.parseInt(value(args, ++i));
+                    case "--store" -> storeType = value(args, ++i);
+                    case "--store-dir" -> storeDir = Path.of(value(args, ++i));
+                    case "--format" -> format = Format.valueOf(value(args, ++i).toUpperCase(Locale.ROOT));
+                    case "--report" -> report = Path.of(value(args, ++i));
+                    case "--no-responses" -> includeResponses = false;
+                    default -> {
+                        if (args[i].startsWith("--") || input != null) {
+                            throw new IllegalArgumentException("알 수 없는 인자: " + args[i]);
+                        }
+                        input = Path.of(args[i]);
+                    }
+                }
+            }
+            if (input == null) {
+                throw new IllegalArgumentException("입력 파일이 없습니다");
+            }
+            if (threads < 1) {
+                throw new IllegalArgumentException("--threads는 1 이상이어야 합니다");
+            }
+            if (!storeType.equals("heap") && !storeType.equals("mapped")) {
+                throw new IllegalArgumentException("--store는 heap 또는 mapped");
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println("[Parameter Collector] " + e.getMessage());
+            usage();
+            System.exit(2);
+            return;
+        }
+        if (format == null) {
+            format = detectFormat(input);
+        }
+
+        // --store-dir 아래에 실행마다 새 하위 폴더를 만든다 (닫을 때 그 폴더만 지움)
+        ParameterStore store = ParameterStore.create(
+            storeType.equals("mapped") ? ParameterStore.Backend.MAPPED : ParameterStore.Backend.HEAP,
+            storeDir != null ? storeDir.toString() : "");
+        try {
+            JsonObject result = replay(input, format, threads, includeResponses, store);
+            result.addProperty("store", storeType);
+            String json = new GsonBuilder().setPrettyPrinting().create().toJson(result);
+            System.out.println(json);
+            if (report != null) {
+                try (Writer writer = Files.newBufferedWriter(report, StandardCharsets.UTF_8)) {
+                    writer.write(json);
+                }
+            }
+        } finally {
+            store.close();
+        }
+    }
+
+    private static JsonObject replay(Path input, Format format, int threads, boolean includeResponses,
+                                     ParameterStore store) throws IOException, InterruptedException {
+        ExtractionSettings settings = ExtractionSettings.defaults();
+        ParameterStatistics statistics = new ParameterStatistics(store);
+        ParameterContexts contexts = new ParameterContexts();
+        IngestionMetrics metrics = new IngestionMetrics();
+        ParameterExtractor extractor = new ParameterExtractor(statistics, contexts, metrics, settings,
+            () -> { }, message -> System.err.println("[Parameter Collector] " + message));
+        ExtractionPipeline pipeline = new ExtractionPipeline(QUEUE_CAPACITY, threads,
+            t -> System.err.println("[Parameter Collector] 파라미터 추출 실패: " + t));
+        pipeline.setPolicy(ExtractionPipeline.BackpressurePolicy.BLOCK);
+
+        TrafficReader reader = format == Format.HAR
+            ? new HarReader(includeResponses, settings.responseMaxBytes())
+            : new BurpItemsReader(includeResponses, settings.responseMaxBytes());
+        TrafficReader.Sink sink = new TrafficReader.Sink() {
+            @Override
+            public void request(RequestSnapshot snapshot) {
+                metrics.onRequest();
+                // HttpHandler와 같이 바이너리 요청은 스킵
+                if (!ParameterExtractor.isBinaryContentType(snapshot.contentType())) {
+                    pipeline.submit(() -> extractor.extractParameters(snapshot));
+                }
+            }
+
+            @Override
+            public void response(ResponseSnapshot snapshot) {
+                metrics.onResponse();
+                pipeline.submit(() -> extractor.extractResponseParameters(snapshot));
+            }
+        };
+
+        System.gc();
+        resetPeakHeap();
+        long start = System.nanoTime();
+        try (InputStream in = open(input)) {
+            reader.read(in, sink);
+        }
+        pipeline.awaitIdle();
+        long elapsed = System.nanoTime() - start;
+        long peakHeap = peakHeap();
+        pipeline.shutdown();
+
+        IngestionMetrics.Snapshot snapshot = metrics.snapshot(0, QUEUE_CAPACITY, pipeline.droppedCount(),
+            store.size(), store.parameterCount());
+        double seconds = elapsed / 1_000_000_000.0;
+        JsonObject result = new JsonObject();
+        result.addProperty("input", input.toString());
+        result.addProperty("format", format.name());
+        result.addProperty("threads", threads);
+        result.addProperty("elapsedSeconds", seconds);
+        result.addProperty("requestsPerSecond", snapshot.requests() / seconds);
+        result.addProperty("valuesExtractedPerSecond", snapshot.valuesExtracted() / seconds);
+        result.addProperty("valuesStoredPerSecond", snapshot.valuesStored() / seconds);
+        result.addProperty("peakHeapBytes", peakHeap);
+        result.addProperty("storeSize", store.size());
+        result.addProperty("parameterCount", store.parameterCount());
+        result.addProperty("hosts", contexts.hostCount());
+        result.addProperty("endpoints", contexts.endpointCount());
+        result.add("metrics", snapshot.toJson(null));
+        return result;
+    }
+
+    private static InputStream open(Path input) throws IOException {
+        InputStream in = new BufferedInputStream(Files.newInputStream(input), 1 << 16);
+        if (input.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(".gz")) {
+            in = new GZIPInputStream(in, 1 << 16);
+        }
+        return in;
+    }
+
+    // 확장자로 안 되면 첫 글자로 ('{' = HAR, '<' = XML)
+    private static Format detectFormat(Path input) throws IOException {
+        String name = input.getFileName().toString().toLowerCase(Locale.ROOT);
+        if (name.endsWith(".gz")) {
+            name = name.substring(0, name.length() - 3);
+        }
+        if (name.endsWith(".har") || name.endsWith(".json")) {
+            return Format.HAR;
+        }
+        if (name.endsWith(".xml")) {
+            return Format.BURP;
+        }
+        try (InputStream in = open(input)) {
+            int c;
+            do {
+                c = in.read();
+            } while (c == ' ' || c == '\t' || c == '\r' || c == '\n' || c == 0xEF || c == 0xBB || c == 0xBF);
+            return c == '<' ? Format.BURP : Format.HAR;
+        }
+    }
+
+    private static void resetPeakHeap() {
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                pool.resetPeakUsage();
+            }
+        }
+    }
+
+    // 힙 풀별 최대 사용량의 합 (풀마다 최대 시점이 달라 실제 최대보다 조금 클 수 있음)
+    private static long peakHeap() {
+        long peak = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP && pool.getPeakUsage() != null) {
+                peak += pool.getPeakUsage().getUsed();
+            }
+        }
+        return peak;
+    }
+
+    private static String value(String[] args, int index) {
+        if (index >= args.length) {
+            throw new IllegalArgumentException(args[index - 1] + " 값이 없습니다");
+        }
+        return args[index];
+    }
+
+    private static void usage() {
+        System.err.println("사용법: java -jar parameter-collector.jar [옵션] <capture.har|items.xml>[.gz]");
+        System.err.println("  --threads N          추출 워커 수 (기본: 코어 수)");
+        System.err.println("  --store heap|mapped  저장소 (기본: heap)");
+        System.err.println("  --store-dir DIR      mapped 저장소를 만들 상위 디렉터리 (실행마다 새 하위 폴더, 기본: 임시 디렉터리)");
+        System.err.println("  --format har|burp    입력 형식 (기본: 확장자/내용으로 판단)");
+        System.err.println("  --report FILE        결과 JSON 저장");
+        System.err.println("  --no-responses       응답은 재생하지 않음");
+    }
+}
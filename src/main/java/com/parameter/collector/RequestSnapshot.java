@@ -0,0 +1,51 @@
+package com.parameter.collector;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+
+// 핸들러 스레드에서 추출에 필요한 값만 담아 둔 요청 스냅샷 (본문은 복사하지 않고 참조)
+// host/method/path는 발견 위치(ParameterContexts) 기록용
+record RequestSnapshot(
+    String host,
+    String method,
+    String path,
+    String url,
+    String contentType,
+    ByteSource body,
+    String cookieHeader,
+    Map<String, String> headers
+) {
+    static final Set<String> DEFAULT_COLLECTABLE_HEADERS = Set.of(
+        "Authorization", "X-Auth-Token", "X-API-Key",
+        "X-Access-Token", "X-CSRF-Token", "X-Request-Id"
+    );
+
+    // headerValue: 헤더 이름 -> 값 (없으면 null). collectableHeaders가 null이면 헤더는 수집하지 않음
+    static RequestSnapshot capture(String host, String method, String path, String url, String contentType,
+                                   ByteSource body, UnaryOperator<String> headerValue, boolean collectCookies,
+                                   Collection<String> collectableHeaders) {
+        String cookieHeader = collectCookies ? headerValue.apply("Cookie") : null;
+
+        Map<String, String> headers = new LinkedHashMap<>();
+        if (collectableHeaders != null) {
+            String authHeader = headerValue.apply("Authorization");
+            if (authHeader != null && !authHeader.isEmpty()) {
+                headers.put("Authorization", authHeader);
+            }
+            for (String headerName : collectableHeaders) {
+                if (headerName.equalsIgnoreCase("Authorization")) {
+                    continue;
+                }
+                String value = headerValue.apply(headerName);
+                if (value != null && !value.isEmpty()) {
+                    headers.put(headerName, value);
+                }
+            }
+        }
+
+        return new RequestSnapshot(host, method, path, url, contentType, body, cookieHeader, headers);
+    }
+}
@@ -0,0 +1,31 @@
+package com.parameter.collector;
+
+import java.util.List;
+
+// 응답에서 추출에 필요한 값만 담아 둔 스냅샷 (본문은 복사하지 않고 참조)
+// host/method/path는 응답을 받은 요청의 위치
+record ResponseSnapshot(
+    String host,
+    String method,
+    String path,
+    String contentType,
+    ByteSource body,
+    List<String> setCookieHeaders
+) {
+
+    // 수집할 것이 없으면 null
+    // HTML/JSON만 본문을 본다. JSON은 잘리면 파싱할 수 없으므로 maxBytes를 넘으면 건너뜀
+    static ResponseSnapshot capture(String host, String method, String path, String contentType, ByteSource body,
+                                    List<String> setCookieHeaders, int maxBytes) {
+        contentType = contentType != null ? contentType : "";
+        MediaType mediaType = MediaType.parse(contentType);
+        ByteSource kept = null;
+        if (body != null && (mediaType.isHtml() || (mediaType.isJson() && body.length() <= maxBytes))) {
+            kept = body;
+        }
+        if (kept == null && setCookieHeaders.isEmpty()) {
+            return null;
+        }
+        return new ResponseSnapshot(host, method, path, contentType, kept, setCookieHeaders);
+    }
+}
@@ -0,0 +1,96 @@
+package com.parameter.collector;
+
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+// 검색창 입력을 해석한 검색 조건 (불변)
+// - 기본: 대소문자 무시 부분 문자열 검색
+// - "re:" 로 시작하면 나머지를 정규식으로 검색 (find)
+final class SearchQuery {
+    static final String REGEX_PREFIX = "re:";
+    static final SearchQuery EMPTY = new SearchQuery("", "", null);
+
+    private final String text;
+    private final String literal;
+    private final Pattern pattern;
+
+    private SearchQuery(String text, String literal, Pattern pattern) {
+        this.text = text;
+        this.literal = literal;
+        this.pattern = pattern;
+    }
+
+    // 정규식 문법 오류면 null
+    static SearchQuery parse(String text) {
+        if (text.isEmpty()) {
+            return EMPTY;
+        }
+        if (text.startsWith(REGEX_PREFIX)) {
+            try {
+                return new SearchQuery(text, null, Pattern.compile(text.substring(REGEX_PREFIX.length())));
+            } catch (PatternSyntaxException e) {
+                return null;
+            }
+        }
+        return new SearchQuery(text, toLowerCase(text), null);
+    }
+
+    boolean isEmpty() {
+        return text.isEmpty();
+    }
+
+    String text() {
+        return text;
+    }
+
+    // 부분 문자열 검색이면 소문자 검색어, 정규식이면 null
+    String literal() {
+        return literal;
+    }
+
+    boolean matches(String name, String value) {
+        if (pattern != null) {
+            return pattern.matcher(name).find() || pattern.matcher(value).find();
+        }
+        return containsIgnoreCase(name, literal) || containsIgnoreCase(value, literal);
+    }
+
+    // lowerQuery는 toLowerCase()로 만든 값
+    static boolean containsIgnoreCase(String text, String lowerQuery) {
+        int length = lowerQuery.length();
+        if (length == 0) {
+            return true;
+        }
+        char first = lowerQuery.charAt(0);
+        for (int i = 0, last = text.length() - length; i <= last; i++) {
+            if (Character.toLowerCase(text.charAt(i)) != first) {
+                continue;
+            }
+            int j = 1;
+            while (j < length && Character.toLowerCase(text.charAt(i + j)) == lowerQuery.charAt(j)) j++;
+            if (j == length) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 색인과 같은 방식(문자 단위)으로 소문자화
+    static String toLowerCase(String text) {
+        char[] chars = new char[text.length()];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(text.charAt(i));
+        }
+        return new String(chars);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof SearchQuery query && query.text.equals(text);
+    }
+
+    @Override
+    public int hashCode() {
+        return text.hashCode();
+    }
+}
@@ -0,0 +1,157 @@
+package com.parameter.collector;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+// 반복되는 문자열의 정규(canonical) 사본 사전 (여러 추출 워커에서 동시에 사용)
+// - 원본 문자 범위(CharSequence [start, end), 앞에 붙는 고정 접두사 포함)에서 바로 해시/비교하므로
+//   이미 있는 문자열이면 임시 String을 만들지 않고 같은 인스턴스를 돌려준다
+// - 문자열마다 0부터 ID를 발급하고 지우지 않는다. 개수(maxEntries)와 길이(maxLength) 상한을 넘으면
+//   등록하지 않고 새 String을 만들어 돌려준다 (기존 동작과 같음)
+// - admitOnRepeat: 한 번 본 해시만 기억했다가 두 번째에 등록 (한 번만 나오는 토큰/ID 값으로 사전이 차지 않게)
+// 조회는 잠금 없이, 등록만 잠금 안에서. 해시는 String.hashCode()와 같은 식이라 후보의 캐시된 해시와 바로 비교
+final class StringDictionary {
+    // 파라미터명: JSON 경로, [Cookie]/[Header] 이름, 폼/쿼리 이름
+    static final StringDictionary NAMES = new StringDictionary(1 << 15, 256, false);
+    // 짧고 자주 반복되는 값: true/false, 열거형, Content-Type 등
+    static final StringDictionary VALUES = new StringDictionary(1 << 14, 32, true);
+
+    private final int maxEntries;
+    private final int maxLength;
+    private final boolean admitOnRepeat;
+    // 슬롯 -> ID + 1 (0 = 빈 슬롯). 크기는 maxEntries의 2배 이상인 2의 거듭제곱
+    private final AtomicIntegerArray slots;
+    private final int mask;
+    // ID -> 문자열 (slots 쓰기보다 먼저 채워 두므로 조회 쪽은 slots를 읽은 뒤 안전하게 읽는다)
+    private final String[] strings;
+    // 등록 전 한 번 본 해시 (직접 사상, 경합은 무해한 추정 오차)
+    private final int[] seen;
+    private int size;
+
+    StringDictionary(int maxEntries, int maxLength, boolean admitOnRepeat) {
+        this.maxEntries = maxEntries;
+        this.maxLength = maxLength;
+        this.admitOnRepeat = admitOnRepeat;
+        int capacity = Integer.highestOneBit(Math.max(2, maxEntries) * 2 - 1) * 2;
+        this.slots = new AtomicIntegerArray(capacity);
+        this.mask = capacity - 1;
+        this.strings = new String[maxEntries];
+        this.seen = admitOnRepeat ? new int[Integer.highestOneBit(Math.max(1, maxEntries))] : null;
+    }
+
+    String intern(String value) {
+        return intern("", value, 0, value.length(), value);
+    }
+
+    String intern(CharSequence source, int start, int end) {
+        return intern("", source, start, end, null);
+    }
+
+    // prefix + source[start, end) (예: "[Cookie] " + 쿠키 이름)
+    String intern(String prefix, CharSequence source, int start, int end) {
+        return intern(prefix, source, start, end, null);
+    }
+
+    // 등록된 문자열의 ID, 없으면 -1 (등록하지 않음)
+    int id(CharSequence source, int start, int end) {
+        if (end - start > maxLength) {
+            return -1;
+        }
+        return find("", source, start, end, hash("", source, start, end));
+    }
+
+    String get(int id) {
+        return strings[id];
+    }
+
+    synchronized int size() {
+        return size;
+    }
+
+    // existing: source 전체와 같은 String이 이미 있으면 그것 (등록할 때 새로 만들지 않음)
+    private String intern(String prefix, CharSequence source, int start, int end, String existing) {
+        int length = prefix.length() + end - start;
+        if (length > maxLength) {
+            return existing != null ? existing : create(prefix, source, start, end);
+        }
+        int hash = hash(prefix, source, start, end);
+        int id = find(prefix, source, start, end, hash);
+        if (id >= 0) {
+            return strings[id];
+        }
+        String value = existing != null ? existing : create(prefix, source, start, end);
+        if (admitOnRepeat) {
+            int index = hash & (seen.length - 1);
+            if (seen[index] != hash) {
+                seen[index] = hash;
+                return value;
+            }
+        }
+        return add(value, hash);
+    }
+
+    private int find(String prefix, CharSequence source, int start, int end, int hash) {
+        int length = prefix.length() + end - start;
+        for (int slot = spread(hash) & mask; ; slot = (slot + 1) & mask) {
+            int entry = slots.get(slot);
+            if (entry == 0) {
+                return -1;
+            }
+            String candidate = strings[entry - 1];
+            if (candidate.hashCode() == hash && candidate.length() == length
+                    && matches(candidate, prefix, source, start, end)) {
+                return entry - 1;
+            }
+        }
+    }
+
+    private synchronized String add(String value, int hash) {
+        int slot = spread(hash) & mask;
+        for (int entry = slots.get(slot); entry != 0; entry = slots.get(slot)) {
+            String candidate = strings[entry - 1];
+            if (candidate.hashCode() == hash && candidate.equals(value)) {
+                return candidate;
+            }
+            slot = (slot + 1) & mask;
+        }
+        if (size >= maxEntries) {
+            return value;
+        }
+        strings[size] = value;
+        slots.set(slot, ++size);
+        return value;
+    }
+
+    // String.hashCode()와 같은 값
+    private static int hash(String prefix, CharSequence source, int start, int end) {
+        int hash = 0;
+        for (int i = 0; i < prefix.length(); i++) {
+            hash = 31 * hash + prefix.charAt(i);
+        }
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + source.charAt(i);
+        }
+        return hash;
+    }
+
+    // 하위 비트가 비슷한 짧은 문자열들이 한 곳에 몰리지 않게 섞음
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private static boolean matches(String candidate, String prefix, CharSequence source, int start, int end) {
+        if (!candidate.startsWith(prefix)) {
+            return false;
+        }
+        for (int i = start, j = prefix.length(); i < end; i++, j++) {
+            if (candidate.charAt(j) != source.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String create(String prefix, CharSequence source, int start, int end) {
+        String range = source.subSequence(start, end).toString();
+        return prefix.isEmpty() ? range : prefix + range;
+    }
+}
@@ -0,0 +1,76 @@
+package com.parameter.collector;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+// 저장된 트래픽 파일을 요청/응답 스냅샷으로 흘려보내는 리더 (헤드리스 재생용)
+// - 파일 전체를 메모리에 올리지 않고 항목 하나씩 읽어 sink로 넘긴다
+// - 스냅샷은 HttpHandler와 같은 RequestSnapshot/ResponseSnapshot.capture로 만든다
+interface TrafficReader {
+
+    interface Sink {
+        void request(RequestSnapshot snapshot);
+
+        void response(ResponseSnapshot snapshot);
+    }
+
+    void read(InputStream in, Sink sink) throws IOException;
+
+    // "https://host:443/a/b?x=1" -> "host"
+    static String hostOf(String url) {
+        int start = url.indexOf("://");
+        start = start < 0 ? 0 : start + 3;
+        int end = start;
+        while (end < url.length()) {
+            char c = url.charAt(end);
+            if (c == '/' || c == ':' || c == '?' || c == '#') {
+                break;
+            }
+            end++;
+        }
+        return url.substring(start, end);
+    }
+
+    // "https://host/a/b?x=1" -> "/a/b" ("/a/b?x=1" 같은 경로만 와도 됨)
+    static String pathOf(String url) {
+        int start = url.indexOf("://");
+        start = start < 0 ? 0 : url.indexOf('/', start + 3);
+        if (start < 0) {
+            return "/";
+        }
+        int end = start;
+        while (end < url.length() && url.charAt(end) != '?' && url.charAt(end) != '#') {
+            end++;
+        }
+        return start == end ? "/" : url.substring(start, end);
+    }
+
+    // 헤더 이름 -> 값 (대소문자 무시). 같은 이름이 여러 번 나오면 Cookie는 "; "로, 나머지는 첫 값만
+    final class Headers {
+        private final Map<String, String> values = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        private final List<String> setCookies = new ArrayList<>();
+
+        void add(String name, String value) {
+            if (name.equalsIgnoreCase("Set-Cookie")) {
+                setCookies.add(value);
+                return;
+            }
+            String existing = values.putIfAbsent(name, value);
+            if (existing != null && name.equalsIgnoreCase("Cookie")) {
+                values.put(name, existing + "; " + value);
+            }
+        }
+
+        String get(String name) {
+            return values.get(name);
+        }
+
+        List<String> setCookies() {
+            return setCookies;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.parameter.collector;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.Reader;
+
+// StAX 기반 스트리밍 XML/SOAP 스캐너 (DOM을 만들지 않음)
+// - 자식 요소가 없는 요소의 텍스트: 요소 로컬 이름 = 값 (SOAP Envelope/Body 같은 감싸는 요소는 자연히 빠짐)
+// - 속성: 요소@속성 = 값 (네임스페이스 선언은 속성으로 보고되지 않음)
+// DTD와 외부 엔티티는 끄고 읽는다 (XXE 방지)
+final class XmlParameterScanner {
+    // 텍스트는 이 길이까지만 모음 (저장 시 어차피 잘림)
+    static final int MAX_TEXT_CHARS = 64 * 1024;
+
+    private static final XMLInputFactory FACTORY = createFactory();
+
+    private XmlParameterScanner() {
+    }
+
+    private static XMLInputFactory createFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        return factory;
+    }
+
+    static void scan(Reader input, ParameterSink sink) throws XMLStreamException {
+        XMLStreamReader reader = FACTORY.createXMLStreamReader(input);
+        try {
+            StringBuilder text = new StringBuilder();
+            // 지금 요소가 아직 자식 요소를 만나지 않았는지 (끝날 때 이 값이 참이면 잎 요소)
+            boolean leaf = false;
+            while (reader.hasNext()) {
+                switch (reader.next()) {
+                    case XMLStreamConstants.START_ELEMENT -> {
+                        String element = reader.getLocalName();
+                        for (int i = 0; i < reader.getAttributeCount(); i++) {
+                            sink.accept(element + "@" + reader.getAttributeLocalName(i), reader.getAttributeValue(i));
+                        }
+                        leaf = true;
+                        text.setLength(0);
+                    }
+                    case XMLStreamConstants.CHARACTERS, XMLStreamConstants.CDATA -> {
+                        if (leaf && text.length() < MAX_TEXT_CHARS) {
+                            int length = Math.min(reader.getTextLength(), MAX_TEXT_CHARS - text.length());
+                            text.append(reader.getTextCharacters(), reader.getTextStart(), length);
+                        }
+                    }
+                    case XMLStreamConstants.END_ELEMENT -> {
+                        if (leaf) {
+                            String value = text.toString().trim();
+                            if (!value.isEmpty()) {
+                                sink.accept(reader.getLocalName(), value);
+                            }
+                        }
+                        // 부모 요소로 돌아가면 부모는 자식이 있는 요소
+                        leaf = false;
+                        text.setLength(0);
+                    }
+                    default -> {
+                    }
+                }
+            }
+        } finally {
+            reader.close();
+        }
+    }
+}